@@ -1,6 +1,7 @@
 package com.smlikelion.webfounder.Recruit.Controller;
 
 import com.smlikelion.webfounder.Recruit.Dto.Request.MailRequestDto;
+import com.smlikelion.webfounder.Recruit.Dto.Response.MailCampaignResponse;
 import com.smlikelion.webfounder.Recruit.Service.MailService;
 import com.smlikelion.webfounder.global.dto.response.BaseResponse;
 import com.smlikelion.webfounder.global.dto.response.ErrorCode;
@@ -31,10 +32,16 @@ public class MailController {
         return new BaseResponse<>(mailService.findAllmail());
     }
 
-    @Operation(summary = "관리자 메일 전송")
+    @Operation(summary = "관리자 메일 전송", description = "발송 작업을 등록하고 작업 id를 바로 반환합니다. 발송은 한도에 맞춰 나눠서 진행됩니다.")
     @PostMapping("/mail/send")
-    private BaseResponse<String> mailSend(){
-        return new BaseResponse<>(ErrorCode.SUCCESS, mailService.sendMail());
+    private BaseResponse<Long> mailSend(){
+        return new BaseResponse<>(ErrorCode.CREATED, mailService.sendMail());
+    }
+
+    @Operation(summary = "관리자 메일 발송 진행 상황 조회")
+    @GetMapping("/mail/send/{campaignId}")
+    private BaseResponse<MailCampaignResponse> mailSendStatus(@PathVariable Long campaignId){
+        return new BaseResponse<>(mailService.getCampaign(campaignId));
     }
 
 }
@@ -0,0 +1,15 @@
+package com.smlikelion.webfounder.Recruit.Dto.Request;
+
+import lombok.Getter;
+
+import javax.validation.constraints.NotBlank;
+
+@Getter
+public class MailTemplateRequest {
+    @NotBlank(message = "메일 제목 입력을 해야 합니다.")
+    private String subject;
+
+    // {{name}}, {{applicationId}}, {{track}} 변수 사용 가능
+    @NotBlank(message = "메일 본문 입력을 해야 합니다.")
+    private String body;
+}
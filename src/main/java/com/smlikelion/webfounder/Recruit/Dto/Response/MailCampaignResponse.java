@@ -0,0 +1,39 @@
+package com.smlikelion.webfounder.Recruit.Dto.Response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class MailCampaignResponse {
+    private final Long campaignId;
+    private final String templateCode;
+    private final String status;
+    private final int total;
+    private final int sent;
+    private final int failed;
+    private final int pending;
+    // 발송 시작 이후 분당 발송 수
+    private final double sentPerMinute;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private final LocalDateTime startedAt;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private final LocalDateTime finishedAt;
+
+    @Builder
+    public MailCampaignResponse(Long campaignId, String templateCode, String status, int total, int sent, int failed, int pending,
+                                double sentPerMinute, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.campaignId = campaignId;
+        this.templateCode = templateCode;
+        this.status = status;
+        this.total = total;
+        this.sent = sent;
+        this.failed = failed;
+        this.pending = pending;
+        this.sentPerMinute = sentPerMinute;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.smlikelion.webfounder.Recruit.Dto.Response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MailTemplateResponse {
+    private final String code;
+    private final String description;
+    private final String subject;
+    private final String body;
+    // 관리자가 수정한 템플릿인지 (false면 기본 템플릿)
+    private final boolean customized;
+    private final List<String> variables;
+
+    @Builder
+    public MailTemplateResponse(String code, String description, String subject, String body,
+                                boolean customized, List<String> variables) {
+        this.code = code;
+        this.description = description;
+        this.subject = subject;
+        this.body = body;
+        this.customized = customized;
+        this.variables = variables;
+    }
+}
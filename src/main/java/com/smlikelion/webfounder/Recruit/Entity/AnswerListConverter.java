@@ -0,0 +1,89 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 문항 답변 목록을 압축한 바이너리로 저장한다.
+ * 형식: [형식 표시 1바이트] + Deflate([문항 수][답변 길이][답변 UTF-8 바이트]...)
+ * 형식 표시가 없는 값은 예전 JSON 텍스트(["답변1", "답변2", ...])로 보고 그대로 읽는다.
+ */
+@Converter
+public class AnswerListConverter implements AttributeConverter<List<String>, byte[]> {
+
+    private static final byte FORMAT_DEFLATE = 1;
+    // 답변 없음(null)을 나타내는 길이
+    private static final int NULL_LENGTH = -1;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<String> answers) {
+        if (answers == null) return null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(FORMAT_DEFLATE);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeInt(answers.size());
+            for (String answer : answers) {
+                if (answer == null) {
+                    out.writeInt(NULL_LENGTH);
+                    continue;
+                }
+                byte[] utf8 = answer.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("답변 압축 실패", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(byte[] value) {
+        if (value == null || value.length == 0) return new ArrayList<>();
+
+        try {
+            if (value[0] == FORMAT_DEFLATE) {
+                return inflate(value);
+            }
+            return objectMapper.readValue(value, new TypeReference<List<String>>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장된 답변을 읽을 수 없습니다", e);
+        }
+    }
+
+    private List<String> inflate(byte[] value) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(value, 1, value.length - 1)))) {
+            int count = in.readInt();
+            if (count < 0) throw new IOException("잘못된 문항 수: " + count);
+
+            List<String> answers = new ArrayList<>(Math.min(count, 64));
+            for (int i = 0; i < count; i++) {
+                int length = in.readInt();
+                if (length == NULL_LENGTH) {
+                    answers.add(null);
+                    continue;
+                }
+                byte[] utf8 = new byte[length];
+                in.readFully(utf8);
+                answers.add(new String(utf8, StandardCharsets.UTF_8));
+            }
+            return answers;
+        }
+    }
+}
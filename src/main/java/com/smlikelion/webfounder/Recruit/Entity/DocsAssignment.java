@@ -0,0 +1,36 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import com.smlikelion.webfounder.global.entity.DateEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 지원서가 어느 Google Docs 문서에 기록되는지 저장하는 등록부
+ */
+@Entity
+@Table(name = "docs_assignment")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocsAssignment extends DateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "docs_assignment_id")
+    private Long id;
+
+    @Column(name = "joiner_id", nullable = false, unique = true)
+    private Long joinerId;
+
+    @Column(name = "document_id", nullable = false)
+    private String documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "track")
+    private Track track;
+}
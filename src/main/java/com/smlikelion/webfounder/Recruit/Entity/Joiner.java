@@ -7,6 +7,8 @@ import com.smlikelion.webfounder.manage.entity.Candidate;
 import com.vladmihalcea.hibernate.type.json.JsonStringType;
 import lombok.*;
 import org.hibernate.annotations.Type;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.TypeDef;
 
 
@@ -17,13 +19,29 @@ import java.util.stream.Collectors;
 
 
 @Entity
-@Table(name = "Joiner")
+@Table(name = "Joiner",
+        indexes = {
+                @Index(name = "uk_joiner_student_id", columnList = "student_id", unique = true),
+                // 관리자 지원서 목록: stashed + track 조건, created_at 순서
+                @Index(name = "idx_joiner_stashed_track_created_at", columnList = "stashed, track, created_at"),
+                // 트랙 구분 없는 전체 목록
+                @Index(name = "idx_joiner_stashed_created_at", columnList = "stashed, created_at"),
+                // 지원서 조회 (이름 + 학번)
+                @Index(name = "idx_joiner_name_student_id", columnList = "name, student_id")
+        })
 @Getter
 @Setter
 @TypeDef(name = "json", typeClass = JsonStringType.class)
 public class Joiner extends DateEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert를 JDBC 배치로 묶을 수 없음. MySQL에는 시퀀스가 없어서 joiner_seq 테이블에서 50개씩 받아 씀
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "joiner_seq")
+    @GenericGenerator(name = "joiner_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "joiner_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
     @Column(name = "joiners_id")
     private Long Id;
 
@@ -74,13 +92,8 @@ public class Joiner extends DateEntity {
     private String portfolio;
 
 
-    //JSON 형식으로 저장될 리스트는
-    //해당 필드를 String 형태로 선언하고 데이터베이스에서는 JSON 형식으로 처리하도록 컬럼 정의를 추가
-    //TEXT 타입: JSON 데이터를 저장하는 데 사용
-    //JSON 형식의 데이터를 String으로 저장하고, 읽을 때는 해당 String을 JSON으로 파싱하여 사용
-
-    @Type(type = "json")
-    @Column(name = "answer_list", columnDefinition = "json")
+    // 문항 답변은 joiner_answer 테이블(JoinerAnswer)에 따로 저장하고, 필요한 곳에서만 읽어서 채운다
+    @Transient
     private List<String> answerList = new ArrayList<>();
 
     @Column(name = "graduated_year", nullable = false)
@@ -103,6 +116,13 @@ public class Joiner extends DateEntity {
     @Enumerated(EnumType.STRING)
     private SendStatus mailStatus = SendStatus.PENDING;
 
+    // 재처리 작업이 다시 시도한 횟수
+    @Column(name = "google_docs_attempts", nullable = false)
+    private int googleDocsAttempts = 0;
+
+    @Column(name = "mail_attempts", nullable = false)
+    private int mailAttempts = 0;
+
 
     public void setProgrammers(Programmers programmers) {
         this.programmers = programmers;
@@ -140,18 +160,23 @@ public class Joiner extends DateEntity {
 
     public AnswerListResponse toAnswerListResponse() {
         return AnswerListResponse.builder()
-                .A1(this.answerList.get(0))
-                .A2(this.answerList.get(1))
-                .A3(this.answerList.get(2))
-                .A4(this.answerList.get(3))
-                .A5(this.answerList.get(4))
-                .A6(this.answerList.get(5))
-                .A7(this.answerList.get(6))
-                .A8(this.answerList.get(7))
+                .A1(answer(0))
+                .A2(answer(1))
+                .A3(answer(2))
+                .A4(answer(3))
+                .A5(answer(4))
+                .A6(answer(5))
+                .A7(answer(6))
+                .A8(answer(7))
                 // 나머지 필드에 대한 추가 작업
                 .build();
     }
 
+    // 답변을 읽지 않았거나 문항 수가 적으면 null
+    public String answer(int index) {
+        return answerList != null && index < answerList.size() ? answerList.get(index) : null;
+    }
+
 
 
 }
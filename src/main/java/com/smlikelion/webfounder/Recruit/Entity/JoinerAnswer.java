@@ -0,0 +1,58 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지원서 문항 답변 (지원서 한 건당 한 행, id는 지원서 id와 같음)
+ * 답변은 지원서마다 수 KB라서 Joiner 행에서 분리했다. 목록/개수/상태 변경 쿼리는 이 테이블을 읽지 않고,
+ * 지원서 상세 조회와 Google Docs 내보내기만 JoinerAnswerRepository로 따로 읽는다.
+ */
+@Entity
+@Table(name = "joiner_answer")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JoinerAnswer implements Persistable<Long> {
+
+    @Id
+    @Column(name = "joiners_id")
+    private Long joinerId;
+
+    // 압축 바이너리 (예전 JSON 값도 그대로 읽음)
+    @Convert(converter = AnswerListConverter.class)
+    @Column(name = "answer_list", length = 1_048_576)
+    private List<String> answerList = new ArrayList<>();
+
+    // id를 직접 넣으므로 save 시 merge(SELECT) 대신 바로 insert 하도록
+    @Transient
+    private boolean isNew = true;
+
+    public static JoinerAnswer of(Long joinerId, List<String> answerList) {
+        JoinerAnswer answer = new JoinerAnswer();
+        answer.joinerId = joinerId;
+        answer.answerList = answerList != null ? answerList : new ArrayList<>();
+        return answer;
+    }
+
+    @Override
+    public Long getId() {
+        return joinerId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
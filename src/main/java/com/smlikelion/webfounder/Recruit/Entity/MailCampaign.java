@@ -0,0 +1,74 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import com.smlikelion.webfounder.global.entity.DateEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 여러 명에게 같은 템플릿으로 보내는 메일 발송 작업. 받는 사람별 진행 상태와 템플릿 값은 MailCampaignRecipient에 남는다.
+ * MailCampaignSender가 설정된 속도로 나눠 보내므로, 서버가 재시작되어도 남은 받는 사람부터 이어서 보낸다.
+ */
+@Entity
+@Table(name = "mail_campaign")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailCampaign extends DateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_campaign_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "template_code", nullable = false, length = 30)
+    private MailTemplateCode templateCode;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private MailCampaignStatus status = MailCampaignStatus.QUEUED;
+
+    @Column(name = "total", nullable = false)
+    private int total;
+
+    @Builder.Default
+    @Column(name = "sent", nullable = false)
+    private int sent = 0;
+
+    @Builder.Default
+    @Column(name = "failed", nullable = false)
+    private int failed = 0;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 받는 사람 등록이 끝나면 발송 대기로
+    public void ready(int total) {
+        this.total = total;
+        this.status = MailCampaignStatus.QUEUED;
+    }
+
+    public void recordProgress(int sent, int failed) {
+        if (this.status == MailCampaignStatus.QUEUED) {
+            this.status = MailCampaignStatus.SENDING;
+            this.startedAt = LocalDateTime.now();
+        }
+        this.sent += sent;
+        this.failed += failed;
+    }
+
+    public void complete() {
+        this.status = MailCampaignStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,57 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "mail_campaign_recipient",
+        indexes = {
+                @Index(name = "idx_mail_campaign_recipient_campaign_status", columnList = "mail_campaign_id, status, mail_campaign_recipient_id"),
+                @Index(name = "idx_mail_campaign_recipient_sent_at", columnList = "sent_at")
+        })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailCampaignRecipient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_campaign_recipient_id")
+    private Long id;
+
+    @Column(name = "mail_campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    // 템플릿 변수 값 (모집 안내처럼 지원서와 관계없는 메일은 null)
+    @Column(name = "recipient_name")
+    private String name;
+
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "track", length = 20)
+    private Track track;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SendStatus status = SendStatus.PENDING;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public void markSent(boolean success) {
+        this.status = success ? SendStatus.SUCCESS : SendStatus.FAIL;
+        this.sentAt = LocalDateTime.now();
+    }
+}
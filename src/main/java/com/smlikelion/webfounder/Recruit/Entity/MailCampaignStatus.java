@@ -0,0 +1,15 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailCampaignStatus {
+    PREPARING("받는 사람 등록 중"),
+    QUEUED("대기"),
+    SENDING("발송 중"),
+    COMPLETED("완료");
+
+    private final String description;
+}
@@ -0,0 +1,47 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import com.smlikelion.webfounder.global.entity.DateEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 메일 한 통(받는 사람 한 명)의 발송 결과. MailDeliveryEngine이 묶음 단위로 저장한다.
+ */
+@Entity
+@Table(name = "mail_delivery_log",
+        indexes = @Index(name = "idx_mail_delivery_log_kind_status", columnList = "kind, status"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailDeliveryLog extends DateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_delivery_log_id")
+    private Long id;
+
+    // 메일 종류 (ANNOUNCEMENT, APPLY_STATUS ...)
+    @Column(name = "kind", nullable = false, length = 30)
+    private String kind;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SendStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,42 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import com.smlikelion.webfounder.global.entity.DateEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 관리자가 수정한 메일 템플릿. 종류별로 하나씩만 저장된다.
+ */
+@Entity
+@Table(name = "mail_template")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailTemplate extends DateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_template_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "code", nullable = false, unique = true, length = 30)
+    private MailTemplateCode code;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    public void update(String subject, String body) {
+        this.subject = subject;
+        this.body = body;
+    }
+}
@@ -0,0 +1,106 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메일 템플릿 종류. mail_template에 저장된 내용이 없으면 여기의 기본 제목/본문을 사용한다.
+ * 본문에는 {{name}}, {{applicationId}}, {{track}} 변수를 쓸 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplateCode {
+    ANNOUNCEMENT("모집 시작 안내",
+            "[멋쟁이사자처럼 숙명여대] 14기 모집이 시작되었습니다.",
+            "멋쟁이사자처럼 숙명여대의 14기 모집이 공식적으로 시작되었음을 알려드리고자 합니다. \n" +
+                    "\n" +
+                    "모집에 관심을 가지고 계신 분들께서는 인스타그램 및 공식 홈페이지의 공지사항을 확인하여 자세한 정보를 얻어주시기 바랍니다.\n" +
+                    "\n" +
+                    "이번 기회를 통해 멋쟁이사자처럼 숙명여대와 함께할 수 있는 여러분을 기다리고 있습니다.\n" +
+                    "\n" +
+                    "감사합니다.\n" +
+                    "\n" +
+                    "멋쟁이 사자처럼 숙명여대 운영진 일동 드림"),
+    APPLY_STATUS("지원서 접수 완료",
+            "[멋쟁이사자처럼 숙명여대] 14기 지원서류 접수가 정상적으로 처리되었습니다.",
+            "안녕하세요,\n" +
+                    "\n" +
+                    "저희 멋쟁이사자처럼 숙명여대 14기 지원해 주신 여러분께 이 메일을 보냅니다. \n" +
+                    "\n" +
+                    "먼저, 지원에 참여해 주셔서 진심으로 감사드립니다. 여러분의 열정과 관심에 깊이 감사드립니다.\n" +
+                    "\n" +
+                    "지원서를 작성하시며 많은 노력과 시간을 투자해 주셨음을 알고 있습니다. \n" +
+                    "\n" +
+                    "멋쟁이 사자처럼에서는 모든 지원자분들의 노력을 높이 평가하고 있으며, 각 분의 역량과 가능성에 대해 큰 관심을 가지고 있습니다.\n" +
+                    "\n" +
+                    "이와 함께, 지원하신 서류가 정상적으로 접수되었음을 안내해드리고자 합니다. \n" +
+                    "\n" +
+                    "추가적인 질문이나 문의사항이 있으시면 언제든지 연락 주시기 바랍니다. \n" +
+                    "\n" +
+                    "저희 멋쟁이사자처럼 숙명여대를 향한 여러분의 관심에 다시 한 번 감사드립니다.\n" +
+                    "\n" +
+                    "이 메일이 여러분에게 좋은 소식이 되기를 바랍니다.\n" +
+                    "\n" +
+                    "감사합니다.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 운영진 일동 드림"),
+    DOCS_PASS("서류 합격 안내",
+            "[멋쟁이사자처럼 숙명여대] 14기 서류 전형 결과 안내",
+            "안녕하세요, {{name}}님.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 14기 {{track}} 트랙에 지원해 주셔서 감사합니다.\n" +
+                    "\n" +
+                    "{{name}}님(지원번호 {{applicationId}}번)께서 서류 전형에 합격하셨음을 알려드립니다.\n" +
+                    "\n" +
+                    "면접 일정은 공식 홈페이지의 결과 조회 페이지에서 확인해주시기 바랍니다.\n" +
+                    "\n" +
+                    "감사합니다.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 운영진 일동 드림"),
+    DOCS_REJECT("서류 불합격 안내",
+            "[멋쟁이사자처럼 숙명여대] 14기 서류 전형 결과 안내",
+            "안녕하세요, {{name}}님.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 14기 {{track}} 트랙에 지원해 주셔서 진심으로 감사드립니다.\n" +
+                    "\n" +
+                    "아쉽게도 이번 서류 전형에서는 함께하지 못하게 되었음을 알려드립니다.\n" +
+                    "\n" +
+                    "보내주신 관심과 열정에 다시 한 번 감사드리며, 다음 기회에 꼭 다시 만나뵙기를 바랍니다.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 운영진 일동 드림"),
+    INTERVIEW_PASS("최종 합격 안내",
+            "[멋쟁이사자처럼 숙명여대] 14기 최종 합격 안내",
+            "안녕하세요, {{name}}님.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 14기 {{track}} 트랙에 최종 합격하셨음을 축하드립니다!\n" +
+                    "\n" +
+                    "이후 일정은 추후 개별적으로 안내해 드리겠습니다.\n" +
+                    "\n" +
+                    "감사합니다.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 운영진 일동 드림"),
+    INTERVIEW_REJECT("최종 불합격 안내",
+            "[멋쟁이사자처럼 숙명여대] 14기 면접 전형 결과 안내",
+            "안녕하세요, {{name}}님.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 14기 면접에 참여해 주셔서 진심으로 감사드립니다.\n" +
+                    "\n" +
+                    "아쉽게도 이번 모집에서는 함께하지 못하게 되었음을 알려드립니다.\n" +
+                    "\n" +
+                    "보내주신 관심과 열정에 다시 한 번 감사드리며, 다음 기회에 꼭 다시 만나뵙기를 바랍니다.\n" +
+                    "\n" +
+                    "멋쟁이사자처럼 숙명여대 운영진 일동 드림");
+
+    private final String description;
+    private final String defaultSubject;
+    private final String defaultBody;
+
+    public static MailTemplateCode getByName(String name) {
+        for (MailTemplateCode code : values()) {
+            if (code.name().equalsIgnoreCase(name)) {
+                return code;
+            }
+        }
+        return null;
+    }
+}
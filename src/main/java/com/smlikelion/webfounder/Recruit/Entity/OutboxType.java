@@ -0,0 +1,14 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxType {
+    DOCS_EXPORT("Google Docs 업로드"),
+    APPLY_MAIL("접수 메일 전송"),
+    S3_CLEANUP("삭제된 지원서 S3 파일 정리");
+
+    private final String description;
+}
@@ -0,0 +1,82 @@
+package com.smlikelion.webfounder.Recruit.Entity;
+
+import com.smlikelion.webfounder.global.entity.DateEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+
+/**
+ * 지원서 저장과 같은 트랜잭션에 기록하는 후속 작업 (Google Docs 업로드, 접수 메일, S3 파일 정리)
+ * RecruitOutboxDispatcher가 PENDING 작업을 모아서 각 처리기로 넘긴다.
+ * 실행기가 가득 차서 거절된 작업도 여기에 다시 기록된다 (SpillToOutboxPolicy).
+ */
+@Entity
+@Table(name = "recruit_outbox",
+        indexes = @Index(name = "idx_recruit_outbox_status_id", columnList = "status, recruit_outbox_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecruitOutbox extends DateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recruit_outbox_seq")
+    @GenericGenerator(name = "recruit_outbox_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "recruit_outbox_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
+    @Column(name = "recruit_outbox_id")
+    private Long id;
+
+    @Column(name = "joiner_id", nullable = false)
+    private Long joinerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 30)
+    private OutboxType type;
+
+    // DOCS_EXPORT: 요청된 문서 ID
+    @Column(name = "document_id")
+    private String documentId;
+
+    // APPLY_MAIL: 받는 사람
+    @Column(name = "email")
+    private String email;
+
+    // S3_CLEANUP: 삭제할 파일 이름
+    @Column(name = "file_name", length = 1000)
+    private String fileName;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SendStatus status = SendStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public void markDispatched() {
+        this.status = SendStatus.SUCCESS;
+        this.lastError = null;
+    }
+
+    // maxAttempts번 실패하면 더 이상 꺼내지 않음
+    public void markFailed(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 500));
+        if (this.attempts >= maxAttempts) {
+            this.status = SendStatus.FAIL;
+        }
+    }
+}
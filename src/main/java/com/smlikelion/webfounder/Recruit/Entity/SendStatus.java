@@ -7,8 +7,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum SendStatus {
     PENDING("대기"),
+    WRITING("기록 중"),
     SUCCESS("성공"),
-    FAIL("실패");
+    FAIL("실패"),
+    SKIPPED("생략");
 
     private final String description;
 }
@@ -0,0 +1,14 @@
+package com.smlikelion.webfounder.Recruit.Repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.DocsAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DocsAssignmentRepository extends JpaRepository<DocsAssignment, Long> {
+    Optional<DocsAssignment> findByJoinerId(Long joinerId);
+
+    long countByDocumentId(String documentId);
+}
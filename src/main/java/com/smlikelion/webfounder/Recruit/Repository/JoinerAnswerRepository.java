@@ -0,0 +1,18 @@
+package com.smlikelion.webfounder.Recruit.Repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.JoinerAnswer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface JoinerAnswerRepository extends JpaRepository<JoinerAnswer, Long> {
+
+    @Modifying
+    @Query("delete from JoinerAnswer a where a.joinerId in :joinerIds")
+    int deleteByJoinerIds(@Param("joinerIds") Collection<Long> joinerIds);
+}
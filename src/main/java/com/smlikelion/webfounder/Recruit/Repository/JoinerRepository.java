@@ -1,18 +1,26 @@
 package com.smlikelion.webfounder.Recruit.Repository;
 
 import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.OutboxType;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
 import com.smlikelion.webfounder.Recruit.Entity.Track;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 
 @Repository
 public interface JoinerRepository extends JpaRepository<Joiner, Long> {
     Joiner findByNameAndStudentId(String name, String studentId);
-    Long countByTrack(Track track);
     Page<Joiner> findAllByTrackOrderByCreatedAtAsc(Track track, Pageable pageable);
     Page<Joiner> findAllByOrderByCreatedAt(Pageable pageable);
 
@@ -21,9 +29,108 @@ public interface JoinerRepository extends JpaRepository<Joiner, Long> {
 
     boolean existsByStudentId(String studentId);
 
+    // 지원현황 목록 커서 페이지: (created_at, joiners_id)가 커서보다 뒤인 지원서부터 (OFFSET, count 없이 인덱스로 바로 찾음)
+    @Query("select j from Joiner j where j.stashed = false " +
+            "and (j.createdAt > :createdAt or (j.createdAt = :createdAt and j.id > :afterId)) " +
+            "order by j.createdAt asc, j.id asc")
+    List<Joiner> findActiveAfter(@Param("createdAt") LocalDateTime createdAt, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select j from Joiner j where j.stashed = false and j.track = :track " +
+            "and (j.createdAt > :createdAt or (j.createdAt = :createdAt and j.id > :afterId)) " +
+            "order by j.createdAt asc, j.id asc")
+    List<Joiner> findActiveAfterByTrack(@Param("track") Track track, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("afterId") Long afterId, Pageable pageable);
+
+    // [track, stashed, 지원서 수]
+    @Query("select j.track, j.stashed, count(j) from Joiner j group by j.track, j.stashed")
+    List<Object[]> countGroupByTrackAndStashed();
+
     Page<Joiner> findAllByStashedTrueOrderByCreatedAtAsc(Pageable pageable);
     Page<Joiner> findAllByTrackAndStashedTrueOrderByCreatedAtAsc(Track track, Pageable pageable);
 
+    // 서버 재시작 시 Google Docs 내보내기 대기열 복구용
+    @Query("select j.id from Joiner j where j.googleDocsStatus in :statuses order by j.id asc")
+    List<Long> findIdsByGoogleDocsStatusIn(@Param("statuses") Collection<SendStatus> statuses);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Joiner j set j.googleDocsStatus = :status where j.id = :joinerId")
+    int updateGoogleDocsStatus(@Param("joinerId") Long joinerId, @Param("status") SendStatus status);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Joiner j set j.googleDocsStatus = :status where j.id in :joinerIds")
+    int updateGoogleDocsStatus(@Param("joinerIds") Collection<Long> joinerIds, @Param("status") SendStatus status);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Joiner j set j.mailStatus = :status where j.id = :joinerId")
+    int updateMailStatus(@Param("joinerId") Long joinerId, @Param("status") SendStatus status);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Joiner j set j.mailStatus = :status where j.id in :joinerIds")
+    int updateMailStatus(@Param("joinerIds") Collection<Long> joinerIds, @Param("status") SendStatus status);
+
+    // 재처리 대상: id 기준 keyset 페이지네이션 (afterId 다음부터 pageable 크기만큼)
+    @Query("select j from Joiner j where j.id > :afterId and j.googleDocsStatus in :statuses " +
+            "and j.googleDocsAttempts < :maxAttempts and j.createdAt < :createdBefore order by j.id asc")
+    List<Joiner> findGoogleDocsRetryTargets(@Param("afterId") Long afterId,
+                                            @Param("statuses") Collection<SendStatus> statuses,
+                                            @Param("maxAttempts") int maxAttempts,
+                                            @Param("createdBefore") LocalDateTime createdBefore,
+                                            Pageable pageable);
+
+    @Query("select j from Joiner j where j.id > :afterId and j.mailStatus in :statuses " +
+            "and j.mailAttempts < :maxAttempts and j.createdAt < :createdBefore order by j.id asc")
+    List<Joiner> findMailRetryTargets(@Param("afterId") Long afterId,
+                                      @Param("statuses") Collection<SendStatus> statuses,
+                                      @Param("maxAttempts") int maxAttempts,
+                                      @Param("createdBefore") LocalDateTime createdBefore,
+                                      Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Joiner j set j.googleDocsAttempts = j.googleDocsAttempts + 1 where j.id in :joinerIds")
+    int incrementGoogleDocsAttempts(@Param("joinerIds") Collection<Long> joinerIds);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Joiner j set j.mailAttempts = j.mailAttempts + 1 where j.id in :joinerIds")
+    int incrementMailAttempts(@Param("joinerIds") Collection<Long> joinerIds);
+
+    // 재시도 횟수를 다 쓰고도 메일 상태가 PENDING에 멈춘 지원서를 FAIL로 (넘기지 않은 작업도, 최근에 넘긴 작업도 없는 경우만)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Joiner j set j.mailStatus = :failed " +
+            "where j.mailStatus = :pending and j.mailAttempts >= :maxAttempts and j.createdAt < :createdBefore " +
+            "and not exists (select o.id from RecruitOutbox o where o.joinerId = j.id and o.type = :type " +
+            "and (o.status = :pending or o.updatedAt >= :dispatchedAfter))")
+    int failStalledMails(@Param("type") OutboxType type,
+                         @Param("pending") SendStatus pending,
+                         @Param("failed") SendStatus failed,
+                         @Param("maxAttempts") int maxAttempts,
+                         @Param("createdBefore") LocalDateTime createdBefore,
+                         @Param("dispatchedAfter") LocalDateTime dispatchedAfter);
+
+    @Query("select j.studentId from Joiner j where j.studentId in :studentIds")
+    List<String> findStudentIdsByStudentIdIn(@Param("studentIds") Collection<String> studentIds);
+
+    @Query("select j.id from Joiner j where j.id in :joinerIds")
+    List<Long> findIdsByIdIn(@Param("joinerIds") Collection<Long> joinerIds);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Joiner j set j.stashed = :stashed where j.id in :joinerIds")
+    int updateStashed(@Param("joinerIds") Collection<Long> joinerIds, @Param("stashed") boolean stashed);
+
+    // [joinerId, 프로그래머스 인증 파일 이름] (전체 삭제 시 S3 정리용)
+    @Query("select j.id, j.programmersImageUrl from Joiner j where j.programmersImageUrl is not null")
+    List<Object[]> findAllProgrammersImageFiles();
+
+    // 재시도 횟수를 모두 써서 더 이상 재처리하지 않는 지원서 수
+    long countByGoogleDocsStatusAndGoogleDocsAttemptsGreaterThanEqual(SendStatus status, int attempts);
 
+    long countByMailStatusAndMailAttemptsGreaterThanEqual(SendStatus status, int attempts);
 
-}
\ No newline at end of file
+}
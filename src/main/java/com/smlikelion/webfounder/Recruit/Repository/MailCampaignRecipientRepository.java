@@ -0,0 +1,29 @@
+package com.smlikelion.webfounder.Recruit.Repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaignRecipient;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailCampaignRecipientRepository extends JpaRepository<MailCampaignRecipient, Long> {
+    List<MailCampaignRecipient> findByCampaignIdAndStatusOrderByIdAsc(Long campaignId, SendStatus status, Pageable pageable);
+
+    long countByCampaignIdAndStatus(Long campaignId, SendStatus status);
+
+    // 하루 발송 한도 확인용 (성공/실패 모두 SMTP 서버에는 보낸 것으로 집계됨)
+    long countBySentAtAfter(LocalDateTime sentAfter);
+
+    @Transactional
+    @Modifying
+    @Query("delete from MailCampaignRecipient r where r.campaignId = :campaignId")
+    int deleteByCampaignId(@Param("campaignId") Long campaignId);
+}
@@ -0,0 +1,15 @@
+package com.smlikelion.webfounder.Recruit.Repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaign;
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaignStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface MailCampaignRepository extends JpaRepository<MailCampaign, Long> {
+    // 먼저 만들어진 작업부터 하나씩
+    Optional<MailCampaign> findFirstByStatusInOrderByIdAsc(Collection<MailCampaignStatus> statuses);
+}
@@ -0,0 +1,11 @@
+package com.smlikelion.webfounder.Recruit.Repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailDeliveryLog;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MailDeliveryLogRepository extends JpaRepository<MailDeliveryLog, Long> {
+    long countByKindAndStatus(String kind, SendStatus status);
+}
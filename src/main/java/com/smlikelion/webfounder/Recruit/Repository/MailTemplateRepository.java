@@ -0,0 +1,13 @@
+package com.smlikelion.webfounder.Recruit.Repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplate;
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplateCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MailTemplateRepository extends JpaRepository<MailTemplate, Long> {
+    Optional<MailTemplate> findByCode(MailTemplateCode code);
+}
@@ -0,0 +1,44 @@
+package com.smlikelion.webfounder.Recruit.Repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.OutboxType;
+import com.smlikelion.webfounder.Recruit.Entity.RecruitOutbox;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecruitOutboxRepository extends JpaRepository<RecruitOutbox, Long> {
+    List<RecruitOutbox> findByStatusOrderByIdAsc(SendStatus status, Pageable pageable);
+
+    long countByStatus(SendStatus status);
+
+    // 주어진 지원서 중 해당 종류·상태의 후속 작업이 있는 지원서 id
+    @Query("select distinct o.joinerId from RecruitOutbox o " +
+            "where o.type = :type and o.status = :status and o.joinerId in :joinerIds")
+    List<Long> findJoinerIds(@Param("type") OutboxType type,
+                             @Param("status") SendStatus status,
+                             @Param("joinerIds") Collection<Long> joinerIds);
+
+    // updatedAfter 이후에 상태가 바뀐(처리기로 넘긴) 작업만
+    @Query("select distinct o.joinerId from RecruitOutbox o " +
+            "where o.type = :type and o.status = :status and o.joinerId in :joinerIds and o.updatedAt >= :updatedAfter")
+    List<Long> findJoinerIdsUpdatedAfter(@Param("type") OutboxType type,
+                                         @Param("status") SendStatus status,
+                                         @Param("joinerIds") Collection<Long> joinerIds,
+                                         @Param("updatedAfter") LocalDateTime updatedAfter);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RecruitOutbox o where o.status = :status and o.createdAt < :createdBefore")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") SendStatus status,
+                                         @Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -2,20 +2,24 @@ package com.smlikelion.webfounder.Recruit.Service;
 
 import com.google.api.services.docs.v1.Docs;
 import com.google.api.services.docs.v1.model.*;
-import com.smlikelion.webfounder.Recruit.Dto.Request.RecruitmentRequest;
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
 import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsApiExecutor;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsLayout;
 import com.smlikelion.webfounder.Recruit.Service.docs.DocsRequests;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsStructureReader;
 import com.smlikelion.webfounder.Recruit.Service.docs.DocsTableWriter;
 import com.smlikelion.webfounder.manage.entity.Question;
-import com.smlikelion.webfounder.manage.repository.QuestionRepository;
+import com.smlikelion.webfounder.manage.service.QuestionCache;
 import lombok.RequiredArgsConstructor;
 import  lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 
@@ -26,7 +30,9 @@ public class GoogleDocsService {
     private final Docs docsService;
     private final DocsRequests docsRequests;
     private final DocsTableWriter docsTableWriter;
-    private final QuestionRepository questionRepository;
+    private final DocsStructureReader docsStructureReader;
+    private final DocsApiExecutor docsApiExecutor;
+    private final QuestionCache questionCache;
 
     @Value("${google.docs.document-id}")
     private String documentId;
@@ -47,143 +53,151 @@ public class GoogleDocsService {
 //    }
 
     /**
-     * 📌 문서의 끝 위치(문자 개수) 가져오기
+     * 📌 문서의 끝 위치(문자 개수)와 revisionId 가져오기 - 본문 없이 구조만 조회
      */
-    private int getDocumentEndIndex() throws IOException {
+    private DocsStructureReader.DocumentStructure readStructure(String documentId) throws IOException {
         try {
-            Document document = docsService.documents().get(documentId).execute();
-            List<StructuralElement> elements = document.getBody().getContent();
-            if (elements.isEmpty()) return 1;
-            return elements.get(elements.size() - 1).getEndIndex();
+            return docsStructureReader.read(documentId);
         } catch (GoogleJsonResponseException e) {
             log.error("Google Docs 문서를 찾을 수 없습니다. 문서 ID={} 에러 메시지={}", documentId, e.getDetails().getMessage());
             throw new RuntimeException("Google Docs 문서 ID가 존재하지 않습니다: " + documentId, e);
         }
     }
 
+    /**
+     * 📌 이미 문서에 기록된 지원번호 (지원서 제목에 남긴 이름 있는 범위 기준)
+     * batchUpdate는 전부 반영되거나 전부 실패하므로, 표식이 있으면 해당 지원서 섹션 전체가 기록된 것이다.
+     */
+    public Set<Long> findExportedApplicationIds(String documentId) throws IOException {
+        return readStructure(documentId).getExportedApplicationIds();
+    }
+
     /**
      * 📌 문서에 지원서 내용 삽입
      */
-    public void appendOneApplication(String documentId, long applicationId, RecruitmentRequest request) throws IOException {
-        int docLength = getDocumentEndIndex();
-        log.info("Google Docs에 서류 업로드 중: 문서 ID={}, 현재 길이={}", documentId, docLength);
+    public void appendOneApplication(String documentId, Joiner joiner) throws IOException {
+        appendApplications(documentId, List.of(joiner));
+    }
 
-        List<Request> batch1 = buildBatch(applicationId, request);
-        executeBatchUpdate(documentId, batch1);
+    /**
+     * 📌 여러 지원서를 한 번에 삽입
+     * 모든 지원서의 제목/표/트랙/자소서/면접 시간/페이지 나누기를 batchUpdate 한 번으로 삽입한다.
+     * 문서 끝 위치는 한 번만 조회하고, 나머지 위치(표 셀 포함)는 로컬에서 계산한다.
+     * 조회한 revisionId를 쓰기 조건으로 걸어서, 그 사이 문서가 바뀌었거나 재시도 전에
+     * 이미 반영된 경우에는 위치가 어긋난 채로 쓰지 않고 실패하게 한다.
+     * 쓰기에 성공하면 응답의 revisionId와 삽입한 길이로 구조 캐시를 갱신해서 다음 쓰기 때 구조를 다시 읽지 않는다.
+     */
+    public void appendApplications(String documentId, List<Joiner> joiners) throws IOException {
+        if (joiners.isEmpty()) return;
 
-        // 표에 내용 삽입
-        appendTableAndFill(documentId, applicationId, request);
-    }
+        DocsStructureReader.DocumentStructure structure = readStructure(documentId);
+        int docLength = structure.getEndIndex();
+        log.info("Google Docs에 서류 {}건 업로드 중: 문서 ID={}, 현재 길이={}", joiners.size(), documentId, docLength);
 
-    private List<Request> buildBatch(long applicationId, RecruitmentRequest request) throws IOException {
-        List<Request> batch = new ArrayList<>();
+        List<Question> questions = questionCache.get(2026L, Track.COMMON);
 
-        addTitleSection(batch, applicationId, request);   // 제목 + 이름 삽입
-        addApplicantTablePlaceholder(batch);              // 표 생성
-        addTrackSection(batch, request);                  // 트랙 정보 삽입
-        addEssaySection(batch, request);                  // 자소서 문항 및 답변 삽입
-        addInterviewTimeSection(batch, request);          // 면접 가능 시간 삽입
-        addPageBreak(batch);                              // 페이지 띄우기
+        DocsLayout layout = new DocsLayout(docsRequests, docLength);
+        for (Joiner joiner : joiners) {
+            buildBatch(layout, joiner, questions);
+        }
+        layout.insertReservedTables();
+        BatchUpdateDocumentResponse response = executeBatchUpdate(documentId, layout.getRequests(), structure.getRevisionId());
 
-        return batch;
+        String revisionId = response.getWriteControl() == null ? null : response.getWriteControl().getRequiredRevisionId();
+        docsStructureReader.afterWrite(documentId, structure, revisionId, layout.getInsertedLength(),
+                joiners.stream().map(Joiner::getId).collect(Collectors.toList()));
     }
 
-    private void addTitleSection(List<Request> batch, long applicationId, RecruitmentRequest request) throws IOException {
-        int start = getDocumentEndIndex() - 1;
+    private void buildBatch(DocsLayout layout, Joiner joiner, List<Question> questions) {
+        addTitleSection(layout, joiner);                   // 제목 + 이름 삽입
+        layout.reserveTable(location ->                    // 표 자리 예약 (생성 + 채우기)
+                docsTableWriter.buildTable(location, joiner));
+        addTrackSection(layout, joiner);                   // 트랙 정보 삽입
+        addEssaySection(layout, joiner, questions);        // 자소서 문항 및 답변 삽입
+        addInterviewTimeSection(layout, joiner);           // 면접 가능 시간 삽입
+        layout.insertPageBreak();                          // 페이지 띄우기
+    }
 
-        String title = "[지원번호 " + applicationId + "번]";
-        String name = " " + docsRequests.safe(request.getStudentInfo().getName());
-        String fullText = "\n" + title + name + "\n";
+    private void addTitleSection(DocsLayout layout, Joiner joiner) {
+        String title = "[지원번호 " + joiner.getId() + "번]";
+        String name = " " + DocsLayout.sanitize(joiner.getName());
 
-        batch.add(docsRequests.insertAtIndex(fullText, start));
+        DocsLayout.Span full = layout.insertText("\n" + title + name + "\n");
 
-        int titleStart = start + 1;
+        int titleStart = full.start + 1;
         int titleEnd = titleStart + title.length();
 
-        batch.add(docsRequests.applyHeading(titleStart, titleEnd, "HEADING_2"));
-        batch.add(docsRequests.applyParagraphAlign(titleStart, titleEnd, "CENTER"));
-        batch.add(docsRequests.applyTextStyle(titleStart, titleEnd, true, 14.0, 0.12f, 0.35f, 0.75f));
+        layout.add(docsRequests.applyHeading(titleStart, titleEnd, "HEADING_2"));
+        layout.add(docsRequests.applyParagraphAlign(titleStart, titleEnd, "CENTER"));
+        layout.add(docsRequests.applyTextStyle(titleStart, titleEnd, true, 14.0, 0.12f, 0.35f, 0.75f));
+        layout.add(docsRequests.createNamedRange(DocsRequests.applicationMarker(joiner.getId()), titleStart, titleEnd));
 
         int nameStart = titleEnd;
-        batch.add(docsRequests.applyTextStyle(nameStart, nameStart + name.length(), true, 14.0, 0f, 0f, 0f));
+        layout.add(docsRequests.applyTextStyle(nameStart, nameStart + name.length(), true, 14.0, 0f, 0f, 0f));
     }
 
-    private void addApplicantTablePlaceholder(List<Request> batch) {
-        batch.add(docsRequests.insertTableAtEnd(2, 8));
-    }
-
-    private void addTrackSection(List<Request> batch, RecruitmentRequest request) {
-        String track = request.getStudentInfo().getTrack();
+    private void addTrackSection(DocsLayout layout, Joiner joiner) {
+        Track track = joiner.getTrack();
 
         log.info("트랙: {}", track);
-        batch.add(docsRequests.insertAtEnd(
+        layout.insertText(
                 "\n* 지원 파트\n" +
-                        docsRequests.checkbox("기획/디자인", "PLANDESIGN".equals(track)) + "   " +
-                        docsRequests.checkbox("프론트엔드", "FRONTEND".equals(track)) + "   " +
-                        docsRequests.checkbox("백엔드", "BACKEND".equals(track)) + "\n"
-        ));
+                        docsRequests.checkbox("기획/디자인", track == Track.PLANDESIGN) + "   " +
+                        docsRequests.checkbox("프론트엔드", track == Track.FRONTEND) + "   " +
+                        docsRequests.checkbox("백엔드", track == Track.BACKEND) + "\n"
+        );
     }
 
-    private void addEssaySection(List<Request> batch, RecruitmentRequest request) throws IOException {
-        batch.add(docsRequests.insertAtEnd("\n[자소서 문항]\n"));
+    private void addEssaySection(DocsLayout layout, Joiner joiner, List<Question> questions) {
+        layout.insertText("\n[자소서 문항]\n");
 
-        List<Question> questions = questionRepository.findAllByYearAndTrack(2026L, Track.COMMON);
-        List<String> answers = request.getAnswerList().toAnswerList();
+        List<String> answers = joiner.getAnswerList();
+        if (answers == null || answers.size() < questions.size()) {
+            log.warn("답변 수가 문항 수보다 적습니다. 빈 답변으로 기록합니다 - joinerId: {}, 문항: {}, 답변: {}",
+                    joiner.getId(), questions.size(), answers == null ? 0 : answers.size());
+        }
 
         for (int i = 0; i < questions.size(); i++) {
             Question q = questions.get(i);
-            String a = docsRequests.safe(answers.get(i));
-
-            int qStart = getDocumentEndIndex() - 1;
-            String qText = "\n" + q.getNumber() + ". "  + q.getContent() + " " + a.length() + "자\n";
-            batch.add(docsRequests.insertAtEnd(qText));
-            int qEnd = qStart + qText.length();
-            batch.add(docsRequests.applyTextStyle(qStart, qEnd, true, 12.0, null, null, null));
-
-            int aStart = getDocumentEndIndex() - 1;
-            String aText = a + "\n";
-            batch.add(docsRequests.insertAtEnd(aText));
-            int aEnd = aStart + aText.length();
-            batch.add(docsRequests.applyParagraphIndent(aStart, aEnd, 18.0));
+            String a = docsRequests.safe(joiner.answer(i));
+
+            DocsLayout.Span question = layout.insertText("\n" + q.getNumber() + ". "  + q.getContent() + " " + a.length() + "자\n");
+            layout.add(docsRequests.applyTextStyle(question.start, question.end, true, 12.0, null, null, null));
+
+            DocsLayout.Span answer = layout.insertText(a + "\n");
+            layout.add(docsRequests.applyParagraphIndent(answer.start, answer.end, 18.0));
         }
     }
 
-    private void addInterviewTimeSection(List<Request> batch, RecruitmentRequest request) {
-        batch.add(docsRequests.insertAtEnd("\n[면접 가능 시간]\n"));
+    private void addInterviewTimeSection(DocsLayout layout, Joiner joiner) {
+        layout.insertText("\n[면접 가능 시간]\n");
 
-        if (request.getInterview_time() == null) return;
+        if (joiner.getInterviewTime() == null) return;
 
-        for (String date : request.getInterview_time().keySet()) {
-            batch.add(docsRequests.insertAtEnd("- " + docsRequests.safe(request.getInterview_time().get(date)) + "\n"));
+        for (String time : joiner.getInterviewTimeValues()) {
+            layout.insertText("- " + docsRequests.safe(time) + "\n");
         }
     }
 
-    private void addPageBreak(List<Request> batch) {
-        batch.add(docsRequests.insertPageBreakAtEnd());
-    }
-
-    private void executeBatchUpdate(String documentId, List<Request> requests) {
+    private BatchUpdateDocumentResponse executeBatchUpdate(String documentId, List<Request> requests, String requiredRevisionId) {
+        BatchUpdateDocumentRequest body = new BatchUpdateDocumentRequest()
+                .setRequests(requests)
+                .setWriteControl(new WriteControl().setRequiredRevisionId(requiredRevisionId));
         try {
-            docsService.documents().batchUpdate(
-                    documentId, new BatchUpdateDocumentRequest().setRequests(requests)
-            ).execute();
+            return docsApiExecutor.execute(DocsApiExecutor.Kind.WRITE, "batchUpdate",
+                    () -> docsService.documents().batchUpdate(documentId, body).execute());
         } catch (GoogleJsonResponseException e) {
+            // 캐시된 끝 위치가 어긋났을 수 있으므로 다음 쓰기 때는 구조를 다시 읽는다
+            docsStructureReader.invalidate(documentId);
             log.error("Google Docs API 오류 발생 status={}, message={}", e.getStatusCode(), e.getDetails().getMessage());
             if (e.getStatusCode() == 400) {
-                log.error("잘못된 인덱스 혹은 요청 형식이 포함되었습니다. 요청 내용을 확인하세요.");
+                log.error("잘못된 인덱스 혹은 요청 형식이 포함되었거나, 조회 이후 문서가 변경되었습니다(revisionId 불일치). 요청 내용을 확인하세요.");
             }
             throw new RuntimeException("Google Docs 업데이트 실패: " + e.getDetails().getMessage(), e);
         } catch (IOException e) {
+            docsStructureReader.invalidate(documentId);
             log.error("Google Docs 통신 오류: {}", e.getMessage());
             throw new RuntimeException("Google Docs 통신 오류", e);
         }
     }
-
-    private void appendTableAndFill(String documentId, long applicationId, RecruitmentRequest request) throws IOException {
-        Document doc = docsService.documents().get(documentId).execute();
-        DocsTableWriter.TableRef tableRef = docsTableWriter.findLastTableRef(documentId);
-        log.info("생성된 표의 Start Index: {}", tableRef.startIndex);
-
-        docsTableWriter.fillAndStyleTable(documentId, tableRef, applicationId, request);
-    }
-}
\ No newline at end of file
+}
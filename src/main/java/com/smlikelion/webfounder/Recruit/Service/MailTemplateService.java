@@ -0,0 +1,91 @@
+package com.smlikelion.webfounder.Recruit.Service;
+
+import com.smlikelion.webfounder.Recruit.Dto.Request.MailTemplateRequest;
+import com.smlikelion.webfounder.Recruit.Dto.Response.MailTemplateResponse;
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplate;
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplateCode;
+import com.smlikelion.webfounder.Recruit.Repository.MailTemplateRepository;
+import com.smlikelion.webfounder.Recruit.Service.mail.CompiledMailTemplate;
+import com.smlikelion.webfounder.Recruit.Service.mail.MailTemplateRegistry;
+import com.smlikelion.webfounder.Recruit.Service.mail.MailTemplateVariable;
+import com.smlikelion.webfounder.Recruit.exception.InvalidMailTemplateException;
+import com.smlikelion.webfounder.admin.entity.Role;
+import com.smlikelion.webfounder.admin.exception.UnauthorizedRoleException;
+import com.smlikelion.webfounder.security.AuthInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MailTemplateService {
+    private static final List<String> VARIABLES = Arrays.stream(MailTemplateVariable.values())
+            .map(MailTemplateVariable::getKey)
+            .collect(Collectors.toList());
+
+    private final MailTemplateRepository mailTemplateRepository;
+    private final MailTemplateRegistry mailTemplateRegistry;
+
+    public List<MailTemplateResponse> getTemplates(AuthInfo authInfo) {
+        if (!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
+            throw new UnauthorizedRoleException("접근 권한이 없습니다.");
+        }
+
+        Map<MailTemplateCode, MailTemplate> saved = mailTemplateRepository.findAll().stream()
+                .collect(Collectors.toMap(MailTemplate::getCode, Function.identity()));
+        return Arrays.stream(MailTemplateCode.values())
+                .map(code -> mapToResponse(code, Optional.ofNullable(saved.get(code))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 템플릿을 저장하고 캐시를 비운다. 저장 전에 컴파일해서 지원하지 않는 변수가 있으면 거절한다.
+     */
+    public MailTemplateResponse updateTemplate(AuthInfo authInfo, String codeName, MailTemplateRequest request) {
+        if (!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
+            throw new UnauthorizedRoleException("접근 권한이 없습니다.");
+        }
+
+        MailTemplateCode code = MailTemplateCode.getByName(codeName);
+        if (code == null) {
+            throw new InvalidMailTemplateException("존재하지 않는 메일 템플릿입니다: " + codeName);
+        }
+        try {
+            CompiledMailTemplate.compile(code, request.getSubject(), request.getBody());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMailTemplateException(e.getMessage());
+        }
+
+        MailTemplate template = mailTemplateRepository.findByCode(code)
+                .orElseGet(() -> MailTemplate.builder().code(code).build());
+        template.update(request.getSubject(), request.getBody());
+        template = mailTemplateRepository.save(template);
+        mailTemplateRegistry.invalidate(code);
+
+        log.info("메일 템플릿 수정 - 종류: {}", code);
+        return mapToResponse(code, Optional.of(template));
+    }
+
+    private MailTemplateResponse mapToResponse(MailTemplateCode code, Optional<MailTemplate> saved) {
+        return MailTemplateResponse.builder()
+                .code(code.name())
+                .description(code.getDescription())
+                .subject(saved.map(MailTemplate::getSubject).orElse(code.getDefaultSubject()))
+                .body(saved.map(MailTemplate::getBody).orElse(code.getDefaultBody()))
+                .customized(saved.isPresent())
+                .variables(VARIABLES)
+                .build();
+    }
+
+    private boolean hasValidRoles(AuthInfo authInfo, List<Role> allowedRoles) {
+        return authInfo.getRoles().stream().anyMatch(allowedRoles::contains);
+    }
+}
@@ -4,26 +4,27 @@ import com.smlikelion.webfounder.Recruit.Dto.Request.RecruitmentRequest;
 import com.smlikelion.webfounder.Recruit.Dto.Response.RecruitmentResponse;
 import com.smlikelion.webfounder.Recruit.Dto.Response.StudentInfoResponse;
 import com.smlikelion.webfounder.Recruit.Entity.*;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerAnswerRepository;
 import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
-import com.smlikelion.webfounder.Recruit.event.RecruitmentAppliedEvent;
+import com.smlikelion.webfounder.Recruit.Repository.RecruitOutboxRepository;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsExportQueue;
 import com.smlikelion.webfounder.Recruit.exception.DuplicateStudentIdException;
 import com.smlikelion.webfounder.Recruit.exception.LateApplyException;
 import com.smlikelion.webfounder.manage.entity.Candidate;
 import com.smlikelion.webfounder.manage.repository.CandidateRepository;
+import com.smlikelion.webfounder.manage.service.ApplicantCountCache;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 
-import javax.persistence.EntityNotFoundException;
-import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.time.LocalDateTime;
 
@@ -33,13 +34,12 @@ import java.time.LocalDateTime;
 public class RecruitService {
 
     private final JoinerRepository joinerRepository;
+    private final JoinerAnswerRepository joinerAnswerRepository;
     private final CandidateRepository candidateRepository;
-    private final MailService mailService;
-    private final GoogleDocsService googleDocsService;
+    private final DocsExportQueue docsExportQueue;
     private final AwsS3Service awsS3Service;
-    private final ApplicationEventPublisher eventPublisher;
-
-    private final ReentrantLock googleDocsLock = new ReentrantLock(true);
+    private final RecruitOutboxRepository recruitOutboxRepository;
+    private final ApplicantCountCache applicantCountCache;
 
     @Transactional
     public RecruitmentResponse registerRecruitment(RecruitmentRequest request, MultipartFile programmersFile,
@@ -71,16 +71,19 @@ public class RecruitService {
         List<String> answerList = request.getAnswerListRequest().toAnswerList();
         joiner.setAnswerList(answerList);
 
-        joiner = joinerRepository.save(joiner);
-
-        // cadidate entity 생성 시 서류합 란을 reject로 초기 설정
+        // cadidate entity 생성 시 서류합 란을 reject로 초기 설정 (joiner는 cascade로 함께 저장)
         Candidate candidate = new Candidate(joiner, "REJECT", "INTERVIEW_REJECT");
         candidateRepository.save(candidate);
+        joinerAnswerRepository.save(JoinerAnswer.of(joiner.getId(), answerList));
+        applicantCountCache.evict();
 
-        // 지원 완료 시, Google Docs에 업로드 + 메일 전송
+        // 지원 완료 시, Google Docs에 업로드 + 메일 전송 (같은 트랜잭션에 후속 작업으로 기록)
         Long applicationId = joiner.getId();
-        eventPublisher.publishEvent(new RecruitmentAppliedEvent(documentId, applicationId, request, joiner.getEmail()));
-        log.info("Google Docs에 서류가 정상적으로 업로드됨: {}", documentId);
+        recruitOutboxRepository.saveAll(List.of(
+                RecruitOutbox.builder().joinerId(applicationId).type(OutboxType.DOCS_EXPORT).documentId(documentId).build(),
+                RecruitOutbox.builder().joinerId(applicationId).type(OutboxType.APPLY_MAIL).email(joiner.getEmail()).build()
+        ));
+        log.info("Google Docs 업로드 / 메일 전송 작업 등록됨: {}", documentId);
 
         // 응답 객체 반환
         StudentInfoResponse studentInfoResponse = joiner.toStudentInfoResponse(fileName);
@@ -103,6 +106,8 @@ public class RecruitService {
 
         // 2. joiner 조회
         Joiner joiner = joinerRepository.findById(joinerId).orElse(null);
+        joinerAnswerRepository.findById(joinerId)
+                .ifPresent(answer -> joiner.setAnswerList(answer.getAnswerList()));
 
         String presignedUrl = null;
 
@@ -132,40 +137,21 @@ public class RecruitService {
             throw new IllegalArgumentException("필수 요청 데이터가 누락되었습니다.");
         }
 
-        boolean acquired;
+        // DB에 저장하지 않은 지원서이므로 요청 값으로 Joiner를 만들어 전용 쓰기 스레드에 맡긴다
+        Joiner snapshot = request.toJoiner();
+        snapshot.setId(applicationId);
+        snapshot.setAnswerList(request.getAnswerListRequest().toAnswerList());
+
         try {
-            acquired = googleDocsLock.tryLock(70, TimeUnit.SECONDS);
+            docsExportQueue.submit(documentId, snapshot).get(70, TimeUnit.SECONDS);
+            return documentId;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new RuntimeException("락 대기 중 인터럽트 발생", e);
-        }
-
-        if(!acquired){
+            throw new RuntimeException("Google Docs 업로드 대기 중 인터럽트 발생", e);
+        } catch (TimeoutException e) {
             throw new RuntimeException("Google Docs 업로드 타임아웃 - applicationId: " + applicationId);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Google Docs 업로드 실패", e.getCause());
         }
-
-        try {
-//            googleDocsService.uploadRecruitmentToGoogleDocs(documentId, request);
-            googleDocsService.appendOneApplication(documentId, applicationId, request);
-            return documentId;
-        } catch (IOException e) {
-            throw new RuntimeException("Google Docs 업로드 실패", e);
-        } finally {
-            googleDocsLock.unlock();
-        }
-    }
-
-    @Transactional
-    public void updateStatus(String type, Long joinerId, SendStatus status) {
-        Joiner joiner = joinerRepository.findById(joinerId)
-                .orElseThrow(() -> new EntityNotFoundException("지원자를 찾을 수 없습니다."));
-
-        if ("MAIL".equals(type)){
-            joiner.setMailStatus(status);
-        } else if ("GOOGLE_DOCS".equals(type)) {
-            joiner.setGoogleDocsStatus(status);
-        }
-
-        // dirty checking에 의해 수정사항 자동 반영
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.smlikelion.webfounder.Recruit.Service;
+
+import com.smlikelion.webfounder.Recruit.Entity.OutboxType;
+import com.smlikelion.webfounder.Recruit.Entity.RecruitOutbox;
+import com.smlikelion.webfounder.Recruit.event.OutboxTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 삭제된 지원서의 프로그래머스 인증 파일을 S3에서 정리한다.
+ * 지원서 삭제 요청이 S3 응답을 기다리지 않도록 전용 실행기에서 지운다.
+ */
+@Slf4j
+@Service
+public class S3CleanupService {
+
+    private final AwsS3Service awsS3Service;
+    private final Executor s3CleanupExecutor;
+
+    public S3CleanupService(AwsS3Service awsS3Service,
+                            @Qualifier("s3CleanupExecutor") Executor s3CleanupExecutor) {
+        this.awsS3Service = awsS3Service;
+        this.s3CleanupExecutor = s3CleanupExecutor;
+    }
+
+    /**
+     * joinerId → 파일 이름. 트랜잭션 안에서 호출하면 커밋된 뒤에 지운다.
+     */
+    public void deleteAfterCommit(Map<Long, String> fileNamesByJoinerId) {
+        if (fileNamesByJoinerId.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fileNamesByJoinerId.forEach(S3CleanupService.this::delete);
+                }
+            });
+        } else {
+            fileNamesByJoinerId.forEach(this::delete);
+        }
+    }
+
+    public void delete(Long joinerId, String fileName) {
+        RecruitOutbox spill = RecruitOutbox.builder()
+                .joinerId(joinerId)
+                .type(OutboxType.S3_CLEANUP)
+                .fileName(fileName)
+                .build();
+
+        s3CleanupExecutor.execute(OutboxTask.of(spill, () -> deleteFile(joinerId, fileName)));
+    }
+
+    // recruit_outbox 에서 꺼낸 작업: 실행기가 가득 차면 RejectedExecutionException (행은 PENDING으로 남음)
+    public void deletePending(Long joinerId, String fileName) {
+        s3CleanupExecutor.execute(OutboxTask.pending(() -> deleteFile(joinerId, fileName)));
+    }
+
+    private void deleteFile(Long joinerId, String fileName) {
+        try {
+            awsS3Service.deleteFile(fileName);
+        } catch (Exception e) {
+            log.error("S3 파일 삭제 실패 - joinerId: {}, 파일: {}, 원인: {}", joinerId, fileName, e.getMessage());
+        }
+    }
+}
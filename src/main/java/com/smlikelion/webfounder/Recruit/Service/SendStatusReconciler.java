@@ -0,0 +1,207 @@
+package com.smlikelion.webfounder.Recruit.Service;
+
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.OutboxType;
+import com.smlikelion.webfounder.Recruit.Entity.RecruitOutbox;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.Recruit.Repository.RecruitOutboxRepository;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsExportQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Google Docs 업로드 / 접수 메일 중 실패했거나 멈춘 지원서를 주기적으로 다시 처리한다.
+ * - 대상: FAIL, 또는 grace-minutes 이상 PENDING/WRITING 에 머문 지원서 (대기열에 있는 지원서는 제외)
+ * - id 기준 keyset 페이지로 batch-size건씩 조회하고, 한 번에 max-per-run건까지만 처리
+ * - 지원서마다 max-attempts번까지 다시 시도하고, 그 이후에는 영구 실패로 집계만 한다
+ * 메일은 직접 보내지 않고 APPLY_MAIL 후속 작업(RecruitOutbox)으로 다시 넣어 RecruitOutboxDispatcher가 보낸다.
+ * 아직 넘기지 않은 APPLY_MAIL 작업이 있거나, grace-minutes 안에 넘겼는데 결과가 아직 기록되지 않은(메일 상태 PENDING) 지원서는
+ * 중복 발송을 막기 위해 건너뛴다. 넘긴 지 grace-minutes가 지나도 PENDING이면 보내는 도중 서버가 멈춘 것으로 보고 다시 넣고,
+ * 재시도 횟수를 다 썼으면 FAIL로 바꿔 영구 실패로 집계한다.
+ */
+@Slf4j
+@Component
+public class SendStatusReconciler {
+
+    private static final List<SendStatus> DOCS_RETRY_STATUSES =
+            List.of(SendStatus.PENDING, SendStatus.WRITING, SendStatus.FAIL);
+    private static final List<SendStatus> MAIL_RETRY_STATUSES =
+            List.of(SendStatus.PENDING, SendStatus.FAIL);
+
+    private final JoinerRepository joinerRepository;
+    private final DocsExportQueue docsExportQueue;
+    private final RecruitOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String defaultDocumentId;
+    private final int batchSize;
+    private final int maxPerRun;
+    private final int maxAttempts;
+    private final long graceMinutes;
+
+    private final Counter docsRedriven;
+    private final Counter docsRecovered;
+    private final Counter docsFailed;
+    private final Counter mailRedriven;
+    private final Counter mailFailed;
+    private final AtomicLong docsExhausted = new AtomicLong();
+    private final AtomicLong mailExhausted = new AtomicLong();
+
+    public SendStatusReconciler(JoinerRepository joinerRepository,
+                                DocsExportQueue docsExportQueue,
+                                RecruitOutboxRepository outboxRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${google.docs.document-id}") String defaultDocumentId,
+                                @Value("${recruit.reconcile.batch-size:100}") int batchSize,
+                                @Value("${recruit.reconcile.max-per-run:500}") int maxPerRun,
+                                @Value("${recruit.reconcile.max-attempts:5}") int maxAttempts,
+                                @Value("${recruit.reconcile.grace-minutes:10}") long graceMinutes) {
+        this.joinerRepository = joinerRepository;
+        this.docsExportQueue = docsExportQueue;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultDocumentId = defaultDocumentId;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPerRun = Math.max(1, maxPerRun);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.graceMinutes = Math.max(0, graceMinutes);
+
+        this.docsRedriven = meterRegistry.counter("recruit.reconcile.redriven", "pipeline", "docs");
+        this.docsRecovered = meterRegistry.counter("recruit.reconcile.recovered", "pipeline", "docs");
+        this.docsFailed = meterRegistry.counter("recruit.reconcile.failed", "pipeline", "docs");
+        this.mailRedriven = meterRegistry.counter("recruit.reconcile.redriven", "pipeline", "mail");
+        this.mailFailed = meterRegistry.counter("recruit.reconcile.failed", "pipeline", "mail");
+        meterRegistry.gauge("recruit.reconcile.exhausted", Tags.of("pipeline", "docs"), docsExhausted);
+        meterRegistry.gauge("recruit.reconcile.exhausted", Tags.of("pipeline", "mail"), mailExhausted);
+    }
+
+    @Scheduled(fixedDelayString = "${recruit.reconcile.interval-ms:300000}",
+            initialDelayString = "${recruit.reconcile.initial-delay-ms:120000}")
+    public void reconcile() {
+        LocalDateTime createdBefore = LocalDateTime.now().minusMinutes(graceMinutes);
+        try {
+            int docs = reconcileDocs(createdBefore);
+            int mails = reconcileMails(createdBefore);
+            int stalled = joinerRepository.failStalledMails(OutboxType.APPLY_MAIL, SendStatus.PENDING, SendStatus.FAIL,
+                    maxAttempts, createdBefore, createdBefore);
+            mailFailed.increment(stalled);
+
+            docsExhausted.set(joinerRepository.countByGoogleDocsStatusAndGoogleDocsAttemptsGreaterThanEqual(SendStatus.FAIL, maxAttempts));
+            mailExhausted.set(joinerRepository.countByMailStatusAndMailAttemptsGreaterThanEqual(SendStatus.FAIL, maxAttempts));
+            if (docs > 0 || mails > 0 || stalled > 0) {
+                log.info("재처리 작업: Google Docs {}건, 메일 {}건 다시 시도, 멈춘 메일 {}건 실패 처리 (영구 실패 Docs {}건, 메일 {}건)",
+                        docs, mails, stalled, docsExhausted.get(), mailExhausted.get());
+            }
+        } catch (Exception e) {
+            log.error("재처리 작업 중 오류 발생", e);
+        }
+    }
+
+    private int reconcileDocs(LocalDateTime createdBefore) {
+        int redriven = 0;
+        long afterId = 0L;
+        while (redriven < maxPerRun) {
+            List<Joiner> page = joinerRepository.findGoogleDocsRetryTargets(
+                    afterId, DOCS_RETRY_STATUSES, maxAttempts, createdBefore, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) break;
+            afterId = page.get(page.size() - 1).getId();
+
+            List<Joiner> targets = page.stream()
+                    .filter(joiner -> !docsExportQueue.isQueued(joiner.getId()))
+                    .limit(maxPerRun - redriven)
+                    .collect(Collectors.toList());
+            if (!targets.isEmpty()) {
+                joinerRepository.incrementGoogleDocsAttempts(targets.stream().map(Joiner::getId).collect(Collectors.toList()));
+            }
+
+            for (Joiner joiner : targets) {
+                try {
+                    docsExportQueue.enqueue(defaultDocumentId, joiner.getId(), joiner.getTrack())
+                            .whenComplete((ignored, e) -> {
+                                if (e == null) docsRecovered.increment();
+                                else docsFailed.increment();
+                            });
+                } catch (RejectedExecutionException e) {
+                    // 대기열이 가득 참: 다음 주기에 다시 시도
+                    log.warn("Google Docs 내보내기 대기열이 가득 차서 재처리를 중단합니다.");
+                    return redriven;
+                }
+                docsRedriven.increment();
+                redriven++;
+            }
+            if (page.size() < batchSize) break;
+        }
+        return redriven;
+    }
+
+    private int reconcileMails(LocalDateTime createdBefore) {
+        int redriven = 0;
+        long afterId = 0L;
+        while (redriven < maxPerRun) {
+            List<Joiner> page = joinerRepository.findMailRetryTargets(
+                    afterId, MAIL_RETRY_STATUSES, maxAttempts, createdBefore, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) break;
+            afterId = page.get(page.size() - 1).getId();
+
+            Set<Long> inFlight = inFlightMails(page, createdBefore);
+            List<Joiner> targets = page.stream()
+                    .filter(joiner -> !inFlight.contains(joiner.getId()))
+                    .limit(maxPerRun - redriven)
+                    .collect(Collectors.toList());
+            if (!targets.isEmpty()) {
+                requeueMails(targets);
+                mailRedriven.increment(targets.size());
+            }
+            redriven += targets.size();
+            if (page.size() < batchSize) break;
+        }
+        return redriven;
+    }
+
+    // 아직 넘기지 않은 APPLY_MAIL 작업이 있거나, dispatchedAfter 이후에 넘겼는데 결과가 아직 기록되지 않은(PENDING) 지원서
+    private Set<Long> inFlightMails(List<Joiner> joiners, LocalDateTime dispatchedAfter) {
+        List<Long> joinerIds = joiners.stream().map(Joiner::getId).collect(Collectors.toList());
+        Set<Long> inFlight = new HashSet<>(outboxRepository.findJoinerIds(OutboxType.APPLY_MAIL, SendStatus.PENDING, joinerIds));
+
+        Set<Long> dispatched = new HashSet<>(outboxRepository.findJoinerIdsUpdatedAfter(
+                OutboxType.APPLY_MAIL, SendStatus.SUCCESS, joinerIds, dispatchedAfter));
+        joiners.stream()
+                .filter(joiner -> joiner.getMailStatus() == SendStatus.PENDING && dispatched.contains(joiner.getId()))
+                .forEach(joiner -> inFlight.add(joiner.getId()));
+        return inFlight;
+    }
+
+    // 메일 상태를 PENDING으로 돌리고 APPLY_MAIL 작업을 다시 넣음 (같은 트랜잭션)
+    private void requeueMails(List<Joiner> joiners) {
+        List<Long> joinerIds = joiners.stream().map(Joiner::getId).collect(Collectors.toList());
+        List<RecruitOutbox> outbox = joiners.stream()
+                .map(joiner -> RecruitOutbox.builder()
+                        .joinerId(joiner.getId())
+                        .type(OutboxType.APPLY_MAIL)
+                        .email(joiner.getEmail())
+                        .build())
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            joinerRepository.incrementMailAttempts(joinerIds);
+            joinerRepository.updateMailStatus(joinerIds, SendStatus.PENDING);
+            outboxRepository.saveAll(outbox);
+        });
+    }
+}
@@ -0,0 +1,178 @@
+package com.smlikelion.webfounder.Recruit.Service.docs;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Google Docs API 호출을 감싸는 실행기.
+ * - 읽기/쓰기 쿼터(분당 요청 수)별 토큰 버킷으로 호출 속도를 제한
+ * - 429를 받으면 허용 속도를 절반으로 줄이고, 성공할 때마다 조금씩 다시 올림
+ * - 429, 5xx, 통신 오류는 지수 백오프 + 지터 후 재시도 (Retry-After가 있으면 그 이상 대기)
+ * 쓰기 재시도는 호출하는 쪽에서 requiredRevisionId를 지정해 이미 반영된 요청이 다시 적용되지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class DocsApiExecutor {
+
+    public enum Kind { READ, WRITE }
+
+    @FunctionalInterface
+    public interface DocsCall<T> {
+        T execute() throws IOException;
+    }
+
+    private final Map<Kind, TokenBucket> buckets = new EnumMap<>(Kind.class);
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    private final Counter throttledCounter;
+    private final Counter retryCounter;
+
+    public DocsApiExecutor(MeterRegistry meterRegistry,
+                           @Value("${google.docs.rate-limit.read-per-minute:270}") double readPerMinute,
+                           @Value("${google.docs.rate-limit.write-per-minute:55}") double writePerMinute,
+                           @Value("${google.docs.rate-limit.burst:5}") int burst,
+                           @Value("${google.docs.retry.max-attempts:6}") int maxAttempts,
+                           @Value("${google.docs.retry.base-backoff-ms:1000}") long baseBackoffMs,
+                           @Value("${google.docs.retry.max-backoff-ms:32000}") long maxBackoffMs) {
+        buckets.put(Kind.READ, new TokenBucket(readPerMinute, burst));
+        buckets.put(Kind.WRITE, new TokenBucket(writePerMinute, burst));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = Math.max(1, baseBackoffMs);
+        this.maxBackoffMs = Math.max(this.baseBackoffMs, maxBackoffMs);
+
+        for (Kind kind : Kind.values()) {
+            Gauge.builder("docs.api.rate.per.minute", buckets.get(kind), TokenBucket::getRatePerMinute)
+                    .description("현재 허용 중인 분당 Google Docs API 호출 수")
+                    .tag("kind", kind.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        this.throttledCounter = meterRegistry.counter("docs.api.throttled");
+        this.retryCounter = meterRegistry.counter("docs.api.retries");
+    }
+
+    public <T> T execute(Kind kind, String description, DocsCall<T> call) throws IOException {
+        TokenBucket bucket = buckets.get(kind);
+
+        for (int attempt = 1; ; attempt++) {
+            sleep(bucket.reserve());
+            try {
+                T result = call.execute();
+                bucket.onSuccess();
+                return result;
+            } catch (GoogleJsonResponseException e) {
+                int status = e.getStatusCode();
+                if (status == 429) {
+                    throttledCounter.increment();
+                    bucket.onThrottled();
+                }
+                if (!isRetryable(status) || attempt >= maxAttempts) throw e;
+
+                long backoff = Math.max(backoffMs(attempt), retryAfterMs(e));
+                log.warn("Google Docs API {} 재시도 {}/{} - status={}, {}ms 후", description, attempt, maxAttempts, status, backoff);
+                retryCounter.increment();
+                sleep(TimeUnit.MILLISECONDS.toNanos(backoff));
+            } catch (InterruptedIOException e) {
+                throw e;
+            } catch (IOException e) {
+                if (attempt >= maxAttempts) throw e;
+
+                long backoff = backoffMs(attempt);
+                log.warn("Google Docs API {} 재시도 {}/{} - 통신 오류: {}, {}ms 후", description, attempt, maxAttempts, e.getMessage(), backoff);
+                retryCounter.increment();
+                sleep(TimeUnit.MILLISECONDS.toNanos(backoff));
+            }
+        }
+    }
+
+    private boolean isRetryable(int status) {
+        return status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
+    }
+
+    // min(base * 2^(attempt-1), max) + 최대 1초의 무작위 지터
+    private long backoffMs(int attempt) {
+        long exponential = baseBackoffMs << Math.min(attempt - 1, 20);
+        return Math.min(exponential, maxBackoffMs) + ThreadLocalRandom.current().nextLong(1000);
+    }
+
+    private long retryAfterMs(GoogleJsonResponseException e) {
+        String retryAfter = e.getHeaders() == null ? null : e.getHeaders().getFirstHeaderStringValue("Retry-After");
+        if (retryAfter == null) return 0;
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException ignored) {
+            return 0;
+        }
+    }
+
+    private void sleep(long nanos) throws InterruptedIOException {
+        if (nanos <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Google Docs API 호출 대기 중 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 분당 허용 호출 수만큼 토큰이 채워지는 버킷.
+     * 토큰이 모자라면 음수로 예약하고 채워질 때까지 기다릴 시간을 돌려준다 (대기는 락 밖에서).
+     */
+    static class TokenBucket {
+        private static final double MIN_RATE_PER_MINUTE = 5;
+        private static final double RECOVERY_PER_SUCCESS = 0.5;
+
+        private final double maxRatePerMinute;
+        private final double capacity;
+        private double ratePerMinute;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        TokenBucket(double maxRatePerMinute, int burst) {
+            this.maxRatePerMinute = Math.max(MIN_RATE_PER_MINUTE, maxRatePerMinute);
+            this.capacity = Math.max(1, burst);
+            this.ratePerMinute = this.maxRatePerMinute;
+            this.tokens = this.capacity;
+        }
+
+        synchronized long reserve() {
+            refill();
+            tokens -= 1;
+            if (tokens >= 0) return 0;
+            return (long) (-tokens / ratePerMinute * TimeUnit.MINUTES.toNanos(1));
+        }
+
+        synchronized void onThrottled() {
+            ratePerMinute = Math.max(MIN_RATE_PER_MINUTE, ratePerMinute / 2);
+            tokens = Math.min(tokens, 0);
+        }
+
+        synchronized void onSuccess() {
+            ratePerMinute = Math.min(maxRatePerMinute, ratePerMinute + RECOVERY_PER_SUCCESS);
+        }
+
+        synchronized double getRatePerMinute() {
+            return ratePerMinute;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerMinute / TimeUnit.MINUTES.toNanos(1));
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.smlikelion.webfounder.Recruit.Service.docs;
+
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerAnswerRepository;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.Recruit.Service.GoogleDocsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Google Docs 내보내기 대기열.
+ * 문서 인덱스 계산이 꼬이지 않도록 문서 하나에는 항상 하나의 쓰기 스레드(lane)만 쓰고,
+ * 서로 다른 문서는 각자의 lane에서 병렬로 쓴다. 지원서의 문서는 DocsShardRouter가 정한다.
+ * lane은 lane-idle-ms 동안 작업이 없으면 스레드를 반납하고 사라지므로, 동시에 쓰는 문서가 max-lanes 이하이면 문서 수에 제한이 없다.
+ * 비동기 스레드 풀은 대기열에 넣기만 하고 바로 반환한다.
+ * 내보내기 상태는 Joiner.googleDocsStatus 에 남긴다: PENDING → WRITING → SUCCESS | FAIL
+ * PENDING/WRITING 지원서는 재시작 시 복구되고, FAIL 지원서는 retryFailed()로 다시 시도한다.
+ * 쓰기 전에 문서의 지원서 표식을 확인하므로, 이미 기록된 지원서는 다시 쓰지 않고 SUCCESS로 넘어간다.
+ * 최대 batch-size건 또는 batch-wait-ms 동안 모인 지원서를 한 번의 batchUpdate로 묶어서 쓴다.
+ * 묶음 쓰기가 실패하면 한 건씩 다시 써서 문제가 된 지원서만 FAIL로 남긴다.
+ */
+@Slf4j
+@Component
+public class DocsExportQueue {
+
+    private final GoogleDocsService googleDocsService;
+    private final JoinerRepository joinerRepository;
+    private final JoinerAnswerRepository joinerAnswerRepository;
+    private final DocsShardRouter docsShardRouter;
+    private final String defaultDocumentId;
+    private final int batchSize;
+    private final long batchWaitMs;
+    private final int queueCapacity;
+    private final long laneIdleMs;
+    private final Executor docsExportExecutor;
+
+    // 문서 ID별 쓰기 lane
+    private final Map<String, WriterLane> lanes = new ConcurrentHashMap<>();
+    private final Set<Long> queuedJoinerIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    private final Counter enqueuedCounter;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Timer waitTimer;
+    private final Timer exportTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public DocsExportQueue(GoogleDocsService googleDocsService,
+                           JoinerRepository joinerRepository,
+                           JoinerAnswerRepository joinerAnswerRepository,
+                           DocsShardRouter docsShardRouter,
+                           @Qualifier("docsExportExecutor") Executor docsExportExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${google.docs.document-id}") String defaultDocumentId,
+                           @Value("${google.docs.export.batch-size:10}") int batchSize,
+                           @Value("${google.docs.export.batch-wait-ms:1000}") long batchWaitMs,
+                           @Value("${google.docs.export.queue-capacity:1000}") int queueCapacity,
+                           @Value("${google.docs.export.lane-idle-ms:60000}") long laneIdleMs) {
+        this.googleDocsService = googleDocsService;
+        this.joinerRepository = joinerRepository;
+        this.joinerAnswerRepository = joinerAnswerRepository;
+        this.docsShardRouter = docsShardRouter;
+        this.defaultDocumentId = defaultDocumentId;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchWaitMs = Math.max(0, batchWaitMs);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.laneIdleMs = Math.max(batchWaitMs, laneIdleMs);
+        this.docsExportExecutor = docsExportExecutor;
+
+        Gauge.builder("docs.export.queue.size", this, DocsExportQueue::size)
+                .description("Google Docs 내보내기 대기 중인 지원서 수")
+                .register(meterRegistry);
+        Gauge.builder("docs.export.lanes", lanes, Map::size)
+                .description("쓰기 중인 Google Docs 문서 수")
+                .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("docs.export.enqueued");
+        this.succeededCounter = meterRegistry.counter("docs.export.completed", "result", "success");
+        this.failedCounter = meterRegistry.counter("docs.export.completed", "result", "fail");
+        this.waitTimer = Timer.builder("docs.export.queue.wait")
+                .description("대기열에 들어온 뒤 쓰기가 시작되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("docs.export.duration")
+                .description("묶음 하나를 Google Docs에 쓰는 데 걸린 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("docs.export.batch.size")
+                .description("batchUpdate 한 번에 묶인 지원서 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버 기동 시 아직 내보내지 못했거나(PENDING) 쓰는 도중 멈춘(WRITING) 지원서를 대기열에 다시 넣는다.
+     * 이미 문서가 정해진 지원서는 등록부에 저장된 문서로 돌아간다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int recovered = resume(List.of(SendStatus.PENDING, SendStatus.WRITING));
+        if (recovered > 0) {
+            log.info("Google Docs 내보내기 대기열 복구: {}건", recovered);
+        }
+    }
+
+    /**
+     * 내보내기에 실패한(FAIL) 지원서를 다시 대기열에 넣는다.
+     * 실패 전에 실제로는 기록된 지원서가 있더라도 표식 확인 후 건너뛰므로 중복되지 않는다.
+     */
+    public int retryFailed() {
+        return resume(List.of(SendStatus.FAIL));
+    }
+
+    private int resume(List<SendStatus> statuses) {
+        List<Long> joinerIds = joinerRepository.findIdsByGoogleDocsStatusIn(statuses);
+        if (joinerIds.isEmpty()) return 0;
+
+        joinerRepository.updateGoogleDocsStatus(joinerIds, SendStatus.PENDING);
+        int enqueued = 0;
+        for (Joiner joiner : joinerRepository.findAllById(joinerIds)) {
+            try {
+                enqueue(defaultDocumentId, joiner.getId(), joiner.getTrack());
+                enqueued++;
+            } catch (RejectedExecutionException e) {
+                // 나머지는 PENDING으로 남아 재처리 작업이 나중에 넣는다
+                log.warn("Google Docs 내보내기 대기열이 가득 찼습니다. 남은 {}건은 나중에 다시 넣습니다.", joinerIds.size() - enqueued);
+                break;
+            }
+        }
+        return enqueued;
+    }
+
+    // 쓰기 스레드는 docsExportExecutor 종료 시 중단된다
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * 저장된 지원서를 해당 문서의 대기열에 넣는다. 이미 대기 중인 지원서는 중복으로 넣지 않는다.
+     * 문서 대기열이 가득 찼거나 쓰기 lane을 더 만들 수 없으면 RejectedExecutionException을 던진다.
+     */
+    public CompletableFuture<Void> enqueue(String requestedDocumentId, Long joinerId, Track track) {
+        if (!queuedJoinerIds.add(joinerId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            String documentId = docsShardRouter.resolve(joinerId, track, requestedDocumentId);
+            ExportJob job = new ExportJob(documentId, joinerId, null);
+            offer(documentId, job);
+            return job.completion;
+        } catch (RuntimeException e) {
+            // 문서 배정에 실패해도 PENDING으로 남아 있으므로 다음 기동 때 다시 시도된다
+            queuedJoinerIds.remove(joinerId);
+            throw e;
+        }
+    }
+
+    /**
+     * DB에 저장되지 않은 지원서(테스트 업로드 등)를 같은 쓰기 스레드로 내보낸다.
+     */
+    public CompletableFuture<Void> submit(String documentId, Joiner snapshot) {
+        ExportJob job = new ExportJob(documentId, snapshot.getId(), snapshot);
+        offer(documentId, job);
+        return job.completion;
+    }
+
+    public boolean isQueued(Long joinerId) {
+        return queuedJoinerIds.contains(joinerId);
+    }
+
+    public int size() {
+        return lanes.values().stream().mapToInt(lane -> lane.queue.size()).sum();
+    }
+
+    // lane 정리(retire)와 겹치지 않도록 문서 키 잠금 안에서 넣는다
+    private void offer(String documentId, ExportJob job) {
+        lanes.compute(documentId, (id, current) -> {
+            WriterLane lane = current != null ? current : startLane(id);
+            if (!lane.queue.offer(job)) {
+                throw new RejectedExecutionException("Google Docs 내보내기 대기열이 가득 찼습니다 - 문서 ID: " + id);
+            }
+            return lane;
+        });
+        enqueuedCounter.increment();
+    }
+
+    // docsExportExecutor에서 쓰기 스레드를 시작 (동시에 쓰는 문서가 max-lanes를 넘으면 거절)
+    private WriterLane startLane(String documentId) {
+        WriterLane lane = new WriterLane(documentId, queueCapacity);
+        docsExportExecutor.execute(() -> drain(lane));
+        log.info("Google Docs 쓰기 lane 시작 - 문서 ID: {}", documentId);
+        return lane;
+    }
+
+    // 대기열이 비어 있을 때만 lane을 등록에서 빼고, 빠졌으면 true
+    private boolean retire(WriterLane lane) {
+        lanes.computeIfPresent(lane.documentId, (id, current) ->
+                current == lane && lane.queue.isEmpty() ? null : current);
+        return lanes.get(lane.documentId) != lane;
+    }
+
+    private void drain(WriterLane lane) {
+        while (running) {
+            List<ExportJob> jobs;
+            try {
+                jobs = takeBatch(lane.queue);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (jobs.isEmpty()) {
+                if (retire(lane)) {
+                    log.info("Google Docs 쓰기 lane 종료 (유휴) - 문서 ID: {}", lane.documentId);
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                export(lane.documentId, jobs);
+            } catch (Exception e) {
+                // 상태 갱신 실패 등으로 소비자 스레드가 멈추지 않도록 한다
+                log.error("Google Docs 내보내기 처리 중 오류 - 문서 ID: {}", lane.documentId, e);
+            }
+        }
+    }
+
+    // 첫 작업이 들어오면 batchSize건이 모이거나 batchWaitMs가 지날 때까지 모아서 반환 (laneIdleMs 동안 없으면 빈 목록)
+    private List<ExportJob> takeBatch(BlockingQueue<ExportJob> queue) throws InterruptedException {
+        List<ExportJob> jobs = new ArrayList<>();
+        ExportJob first = queue.poll(laneIdleMs, TimeUnit.MILLISECONDS);
+        if (first == null) return jobs;
+        jobs.add(first);
+        queue.drainTo(jobs, batchSize - jobs.size());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWaitMs);
+        while (jobs.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+            ExportJob job = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (job == null) break;
+            jobs.add(job);
+            queue.drainTo(jobs, batchSize - jobs.size());
+        }
+        return jobs;
+    }
+
+    private void export(String documentId, List<ExportJob> jobs) {
+        long now = System.nanoTime();
+        jobs.forEach(job -> waitTimer.record(now - job.enqueuedAt, TimeUnit.NANOSECONDS));
+
+        List<ExportJob> writable = new ArrayList<>();
+        List<Joiner> joiners = new ArrayList<>();
+        try {
+            Map<Long, Joiner> saved = loadSavedJoiners(jobs);
+            Set<Long> exported = saved.isEmpty() ? Set.of() : googleDocsService.findExportedApplicationIds(documentId);
+
+            for (ExportJob job : jobs) {
+                Joiner joiner = job.isPersistent() ? saved.get(job.joinerId) : job.snapshot;
+
+                // 내보내기 전에 삭제된 지원서
+                if (joiner == null) {
+                    log.warn("Google Docs 내보내기 대상 지원서가 없습니다 - joinerId: {}", job.joinerId);
+                    job.completion.complete(null);
+                    continue;
+                }
+                // 이전 시도에서 이미 기록된 지원서 (응답만 받지 못한 경우 등)
+                if (job.isPersistent() && exported.contains(job.joinerId)) {
+                    log.info("이미 Google Docs에 기록된 지원서 - joinerId: {}", job.joinerId);
+                    joinerRepository.updateGoogleDocsStatus(job.joinerId, SendStatus.SUCCESS);
+                    job.completion.complete(null);
+                    continue;
+                }
+                writable.add(job);
+                joiners.add(joiner);
+            }
+            if (writable.isEmpty()) return;
+
+            List<Long> persistentIds = persistentIds(writable);
+            if (!persistentIds.isEmpty()) {
+                joinerRepository.updateGoogleDocsStatus(persistentIds, SendStatus.WRITING);
+            }
+
+            try {
+                write(documentId, writable, joiners);
+            } catch (Exception e) {
+                if (writable.size() == 1) throw e;
+                // 한 지원서 때문에 묶음 전체가 실패하지 않도록 한 건씩 다시 쓴다
+                log.warn("Google Docs 묶음 쓰기 실패, 한 건씩 다시 시도합니다 - 문서 ID: {}, {}건, 원인: {}",
+                        documentId, writable.size(), e.getMessage());
+                exportOneByOne(documentId, writable, joiners);
+                return;
+            }
+            complete(writable);
+        } catch (Exception e) {
+            fail(writable, e);
+            // 분류 전에 실패한 작업 (상태는 그대로 남아 재처리 대상이 됨)
+            jobs.forEach(job -> job.completion.completeExceptionally(e));
+        } finally {
+            jobs.stream()
+                    .filter(ExportJob::isPersistent)
+                    .forEach(job -> queuedJoinerIds.remove(job.joinerId));
+        }
+    }
+
+    private void write(String documentId, List<ExportJob> jobs, List<Joiner> joiners) throws IOException {
+        batchSizeSummary.record(jobs.size());
+        Timer.Sample sample = Timer.start();
+        googleDocsService.appendApplications(documentId, joiners);
+        sample.stop(exportTimer);
+    }
+
+    // 묶음 실패 후 한 건씩 기록. 실패한 지원서만 FAIL로 남는다
+    private void exportOneByOne(String documentId, List<ExportJob> jobs, List<Joiner> joiners) throws IOException {
+        // 묶음 요청이 실제로는 반영되고 응답만 실패했을 수 있으므로 표식을 다시 확인
+        Set<Long> exported = persistentIds(jobs).isEmpty() ? Set.of() : googleDocsService.findExportedApplicationIds(documentId);
+
+        for (int i = 0; i < jobs.size(); i++) {
+            ExportJob job = jobs.get(i);
+            try {
+                if (!(job.isPersistent() && exported.contains(job.joinerId))) {
+                    write(documentId, List.of(job), List.of(joiners.get(i)));
+                }
+                complete(List.of(job));
+            } catch (Exception e) {
+                fail(List.of(job), e);
+            }
+        }
+    }
+
+    private void complete(List<ExportJob> jobs) {
+        List<Long> persistentIds = persistentIds(jobs);
+        if (!persistentIds.isEmpty()) {
+            joinerRepository.updateGoogleDocsStatus(persistentIds, SendStatus.SUCCESS);
+        }
+        for (ExportJob job : jobs) {
+            succeededCounter.increment();
+            job.completion.complete(null);
+        }
+    }
+
+    private void fail(List<ExportJob> jobs, Exception e) {
+        log.error("구글 독스 업로드 실패 - joinerIds:{}, 원인:{}",
+                jobs.stream().map(job -> job.joinerId).collect(Collectors.toList()), e.getMessage(), e);
+        List<Long> persistentIds = persistentIds(jobs);
+        if (!persistentIds.isEmpty()) {
+            joinerRepository.updateGoogleDocsStatus(persistentIds, SendStatus.FAIL);
+        }
+        for (ExportJob job : jobs) {
+            failedCounter.increment();
+            job.completion.completeExceptionally(e);
+        }
+    }
+
+    private List<Long> persistentIds(List<ExportJob> jobs) {
+        return jobs.stream()
+                .filter(ExportJob::isPersistent)
+                .map(job -> job.joinerId)
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Joiner> loadSavedJoiners(List<ExportJob> jobs) {
+        List<Long> ids = persistentIds(jobs);
+        if (ids.isEmpty()) return Map.of();
+
+        Map<Long, Joiner> joiners = joinerRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Joiner::getId, Function.identity()));
+        // 답변은 별도 테이블에서 한 번에 읽어 채움
+        joinerAnswerRepository.findAllById(joiners.keySet())
+                .forEach(answer -> joiners.get(answer.getJoinerId()).setAnswerList(answer.getAnswerList()));
+        return joiners;
+    }
+
+    private static class WriterLane {
+        private final String documentId;
+        private final BlockingQueue<ExportJob> queue;
+
+        private WriterLane(String documentId, int capacity) {
+            this.documentId = documentId;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+    }
+
+    private static class ExportJob {
+        private final String documentId;
+        private final Long joinerId;
+        private final Joiner snapshot;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private ExportJob(String documentId, Long joinerId, Joiner snapshot) {
+            this.documentId = documentId;
+            this.joinerId = joinerId;
+            this.snapshot = snapshot;
+        }
+
+        private boolean isPersistent() {
+            return snapshot == null;
+        }
+    }
+}
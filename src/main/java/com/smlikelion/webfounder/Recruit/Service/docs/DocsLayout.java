@@ -0,0 +1,114 @@
+package com.smlikelion.webfounder.Recruit.Service.docs;
+
+import com.google.api.services.docs.v1.model.Request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * 문서 끝 위치를 한 번만 조회한 뒤, 이후 모든 삽입/스타일 위치를 로컬에서 계산하는 레이아웃 모델.
+ * Google Docs 인덱스는 UTF-16 코드 유닛 기준이므로 String.length()로 계산하고,
+ * API가 삽입 시 제거하는 문자는 미리 제거해서 서버와 같은 길이를 유지한다.
+ */
+public class DocsLayout {
+
+    // InsertTextRequest가 삽입 시 제거하는 문자 (U+0000-U+0008, U+000C-U+001F, U+E000-U+F8FF)
+    private static final Pattern STRIPPED_CHARACTERS =
+            Pattern.compile("[\\u0000-\\u0008\\u000C-\\u001F\\uE000-\\uF8FF]");
+
+    private final DocsRequests docsRequests;
+    private final List<Request> requests = new ArrayList<>();
+    private final List<ReservedTable> reservedTables = new ArrayList<>();
+    private int cursor;
+
+    public DocsLayout(DocsRequests docsRequests, int documentEndIndex) {
+        this.docsRequests = docsRequests;
+        // 문서의 마지막 줄바꿈 앞에 이어서 쓴다
+        this.cursor = documentEndIndex - 1;
+    }
+
+    public static String sanitize(String text) {
+        return text == null ? "" : STRIPPED_CHARACTERS.matcher(text).replaceAll("");
+    }
+
+    // 현재 위치에 텍스트를 삽입하고 삽입된 범위를 반환
+    public Span insertText(String text) {
+        String sanitized = sanitize(text);
+        int start = cursor;
+        requests.add(docsRequests.insertAtIndex(sanitized, start));
+        cursor += sanitized.length();
+        return new Span(start, cursor);
+    }
+
+    // 페이지 나누기 뒤에는 줄바꿈이 함께 삽입됨
+    public void insertPageBreak() {
+        requests.add(docsRequests.insertPageBreakAtIndex(cursor));
+        cursor += 2;
+    }
+
+    // 현재 위치에 표 자리를 예약 (표의 크기를 몰라도 이후 위치를 계산할 수 있도록 표는 마지막에 생성)
+    // tableBuilder는 표 삽입 위치를 받아 표 생성 + 셀 채우기 요청을 만든다
+    public void reserveTable(IntFunction<List<Request>> tableBuilder) {
+        reservedTables.add(new ReservedTable(cursor, tableBuilder));
+    }
+
+    // 예약된 표를 뒤에서부터 생성해야 앞쪽 표(와 그 셀)의 위치가 밀리지 않음
+    public void insertReservedTables() {
+        for (int i = reservedTables.size() - 1; i >= 0; i--) {
+            ReservedTable table = reservedTables.get(i);
+            requests.addAll(table.builder.apply(table.index));
+        }
+        reservedTables.clear();
+    }
+
+    public void add(Request request) {
+        requests.add(request);
+    }
+
+    public int getCursor() {
+        return cursor;
+    }
+
+    // 지금까지 만든 요청이 모두 반영되면 늘어나는 문서 길이 (스타일/이름 있는 범위 요청은 길이를 바꾸지 않음)
+    public int getInsertedLength() {
+        int length = 0;
+        for (Request request : requests) {
+            if (request.getInsertText() != null) {
+                length += request.getInsertText().getText().length();
+            } else if (request.getInsertPageBreak() != null) {
+                length += 2;
+            } else if (request.getInsertTable() != null) {
+                length += DocsTableWriter.tableLength(request.getInsertTable().getRows(), request.getInsertTable().getColumns());
+            }
+        }
+        return length;
+    }
+
+    public List<Request> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    private static class ReservedTable {
+        private final int index;
+        private final IntFunction<List<Request>> builder;
+
+        private ReservedTable(int index, IntFunction<List<Request>> builder) {
+            this.index = index;
+            this.builder = builder;
+        }
+    }
+
+    // 삽입된 텍스트의 [start, end) 범위
+    public static class Span {
+        public final int start;
+        public final int end;
+
+        public Span(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
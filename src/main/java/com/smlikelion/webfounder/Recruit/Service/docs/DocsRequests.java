@@ -6,6 +6,13 @@ import org.springframework.stereotype.Component;
 @Component
 public class DocsRequests {
 
+    // 지원서 섹션마다 남기는 이름 있는 범위 (이미 기록된 지원서인지 확인하는 용도)
+    public static final String APPLICATION_MARKER_PREFIX = "application-";
+
+    public static String applicationMarker(Long applicationId) {
+        return APPLICATION_MARKER_PREFIX + applicationId;
+    }
+
     public String checkbox(String label, boolean checked) {
         return (checked ? "☑ " : "☐ ") + label;
     }
@@ -99,6 +106,12 @@ public class DocsRequests {
         );
     }
 
+    public Request insertPageBreakAtIndex(int index) {
+        return new Request().setInsertPageBreak(
+                new InsertPageBreakRequest().setLocation(new Location().setIndex(index))
+        );
+    }
+
     // 표 생성
     public Request insertTableAtEnd(int rows, int cols) {
         return new Request().setInsertTable(
@@ -108,4 +121,22 @@ public class DocsRequests {
                         .setEndOfSegmentLocation(new EndOfSegmentLocation())
         );
     }
+
+    // 지정한 위치에 표 생성 (표 앞에 줄바꿈이 함께 삽입됨)
+    public Request insertTableAtIndex(int rows, int cols, int index) {
+        return new Request().setInsertTable(
+                new InsertTableRequest()
+                        .setRows(rows)
+                        .setColumns(cols)
+                        .setLocation(new Location().setIndex(index))
+        );
+    }
+
+    public Request createNamedRange(String name, int s, int e) {
+        return new Request().setCreateNamedRange(
+                new CreateNamedRangeRequest()
+                        .setName(name)
+                        .setRange(new Range().setStartIndex(s).setEndIndex(e))
+        );
+    }
 }
@@ -0,0 +1,110 @@
+package com.smlikelion.webfounder.Recruit.Service.docs;
+
+import com.smlikelion.webfounder.Recruit.Entity.DocsAssignment;
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Repository.DocsAssignmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 지원서를 기록할 Google Docs 문서를 정하고 docs_assignment에 저장한다.
+ * 문서 하나가 커질수록 get/batchUpdate가 느려지므로 여러 문서로 나눠서 쓴다.
+ * - single  : 요청으로 받은 문서 하나에 모두 기록 (기존 동작)
+ * - track   : 트랙별 문서에 기록 (설정이 없는 트랙은 요청 문서)
+ * - rolling : documents 목록을 순서대로 채우고 max-applications건이 차면 다음 문서로 넘어감
+ * 한 번 정해진 문서는 바뀌지 않으므로 재시도/복구 시에도 같은 문서에 기록된다.
+ */
+@Slf4j
+@Component
+public class DocsShardRouter {
+
+    public enum Mode { SINGLE, TRACK, ROLLING }
+
+    private final DocsAssignmentRepository docsAssignmentRepository;
+    private final Mode mode;
+    private final Map<Track, String> trackDocuments = new EnumMap<>(Track.class);
+    private final List<String> rollingDocuments;
+    private final long maxApplications;
+    // synchronized 안에서 DB를 기다리면 가상 스레드가 캐리어 스레드에 고정되므로 ReentrantLock 사용
+    private final ReentrantLock assignLock = new ReentrantLock();
+
+    public DocsShardRouter(DocsAssignmentRepository docsAssignmentRepository,
+                           @Value("${google.docs.shard.mode:single}") String mode,
+                           @Value("${google.docs.shard.track.plandesign:}") String planDesignDocument,
+                           @Value("${google.docs.shard.track.frontend:}") String frontendDocument,
+                           @Value("${google.docs.shard.track.backend:}") String backendDocument,
+                           @Value("${google.docs.shard.documents:}") List<String> rollingDocuments,
+                           @Value("${google.docs.shard.max-applications:300}") long maxApplications) {
+        this.docsAssignmentRepository = docsAssignmentRepository;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase());
+        putIfPresent(Track.PLANDESIGN, planDesignDocument);
+        putIfPresent(Track.FRONTEND, frontendDocument);
+        putIfPresent(Track.BACKEND, backendDocument);
+        this.rollingDocuments = rollingDocuments.stream()
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toList());
+        this.maxApplications = Math.max(1, maxApplications);
+
+        if (this.mode == Mode.ROLLING && this.rollingDocuments.isEmpty()) {
+            log.warn("google.docs.shard.documents 설정이 없어 요청 문서 하나에 기록합니다.");
+        }
+    }
+
+    /**
+     * 지원서의 문서를 반환한다. 처음 보는 지원서라면 문서를 정해서 등록부에 저장한다.
+     * rolling 모드의 문서별 건수가 어긋나지 않도록 배정은 한 번에 하나씩 처리한다.
+     */
+    public String resolve(Long joinerId, Track track, String requestedDocumentId) {
+        assignLock.lock();
+        try {
+            return docsAssignmentRepository.findByJoinerId(joinerId)
+                    .map(DocsAssignment::getDocumentId)
+                    .orElseGet(() -> assign(joinerId, track, requestedDocumentId));
+        } finally {
+            assignLock.unlock();
+        }
+    }
+
+    private String assign(Long joinerId, Track track, String requestedDocumentId) {
+        String documentId = select(track, requestedDocumentId);
+        docsAssignmentRepository.save(DocsAssignment.builder()
+                .joinerId(joinerId)
+                .documentId(documentId)
+                .track(track)
+                .build());
+        return documentId;
+    }
+
+    private String select(Track track, String requestedDocumentId) {
+        switch (mode) {
+            case TRACK:
+                return track == null ? requestedDocumentId : trackDocuments.getOrDefault(track, requestedDocumentId);
+            case ROLLING:
+                if (rollingDocuments.isEmpty()) return requestedDocumentId;
+                for (String documentId : rollingDocuments) {
+                    if (docsAssignmentRepository.countByDocumentId(documentId) < maxApplications) {
+                        return documentId;
+                    }
+                }
+                String last = rollingDocuments.get(rollingDocuments.size() - 1);
+                log.warn("모든 Google Docs 문서가 {}건을 넘었습니다. 마지막 문서에 계속 기록합니다: {}", maxApplications, last);
+                return last;
+            default:
+                return requestedDocumentId;
+        }
+    }
+
+    private void putIfPresent(Track track, String documentId) {
+        if (documentId != null && !documentId.isBlank()) {
+            trackDocuments.put(track, documentId.trim());
+        }
+    }
+}
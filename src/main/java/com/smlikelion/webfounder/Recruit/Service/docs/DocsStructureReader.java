@@ -0,0 +1,132 @@
+package com.smlikelion.webfounder.Recruit.Service.docs;
+
+import com.google.api.services.docs.v1.Docs;
+import com.google.api.services.docs.v1.model.Document;
+import com.google.api.services.docs.v1.model.StructuralElement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 문서 구조(끝 위치, 지원서 표식)만 필드 마스크로 조회하고, revisionId 기준으로 캐싱한다.
+ * 본문 텍스트 없이 인덱스만 받으므로 문서가 수백 페이지로 커져도 응답이 작게 유지된다.
+ * 직접 쓴 뒤에는 batchUpdate 응답의 revisionId와 로컬에서 계산한 길이로 캐시를 갱신해서,
+ * 다음 쓰기 때 구조를 다시 읽지 않고 revisionId만 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocsStructureReader {
+
+    private static final String REVISION_FIELDS = "revisionId";
+    private static final String STRUCTURE_FIELDS = "revisionId,body/content/endIndex,namedRanges";
+
+    private final Docs docsService;
+    private final DocsApiExecutor docsApiExecutor;
+    private final Map<String, DocumentStructure> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 구조가 있으면 revisionId만 조회해서 바뀌지 않았을 때 그대로 사용한다.
+     */
+    public DocumentStructure read(String documentId) throws IOException {
+        DocumentStructure cached = cache.get(documentId);
+        if (cached != null) {
+            String revisionId = docsApiExecutor.execute(DocsApiExecutor.Kind.READ, "revisionId 조회",
+                    () -> docsService.documents().get(documentId)
+                            .setFields(REVISION_FIELDS)
+                            .execute()
+                            .getRevisionId());
+            if (Objects.equals(cached.getRevisionId(), revisionId)) {
+                return cached;
+            }
+            log.info("Google Docs 문서가 변경되어 구조를 다시 읽습니다: 문서 ID={}", documentId);
+        }
+
+        Document document = docsApiExecutor.execute(DocsApiExecutor.Kind.READ, "문서 구조 조회",
+                () -> docsService.documents().get(documentId)
+                        .setFields(STRUCTURE_FIELDS)
+                        .execute());
+        DocumentStructure structure = DocumentStructure.from(document);
+        cache.put(documentId, structure);
+        return structure;
+    }
+
+    /**
+     * batchUpdate가 성공한 뒤 호출. 쓰기 전 구조에 삽입한 길이와 새로 기록한 지원서 표식을 더해서
+     * 응답의 revisionId로 캐싱한다. revisionId를 받지 못했으면 다음 조회 때 구조를 다시 읽는다.
+     */
+    public void afterWrite(String documentId, DocumentStructure before, String revisionId,
+                           int insertedLength, Collection<Long> writtenApplicationIds) {
+        if (revisionId == null) {
+            invalidate(documentId);
+            return;
+        }
+        Set<Long> exportedApplicationIds = new HashSet<>(before.getExportedApplicationIds());
+        writtenApplicationIds.stream().filter(Objects::nonNull).forEach(exportedApplicationIds::add);
+        cache.put(documentId, new DocumentStructure(revisionId, before.getEndIndex() + insertedLength, exportedApplicationIds));
+    }
+
+    /**
+     * 쓰기가 실패했거나(400 등) 캐시를 믿을 수 없을 때 호출. 다음 조회 때 revisionId 확인 없이 바로 구조를 다시 읽는다.
+     */
+    public void invalidate(String documentId) {
+        cache.remove(documentId);
+    }
+
+    // 문서 구조 스냅샷
+    public static class DocumentStructure {
+        private final String revisionId;
+        private final int endIndex;
+        private final Set<Long> exportedApplicationIds;
+
+        public DocumentStructure(String revisionId, int endIndex, Set<Long> exportedApplicationIds) {
+            this.revisionId = revisionId;
+            this.endIndex = endIndex;
+            this.exportedApplicationIds = Collections.unmodifiableSet(exportedApplicationIds);
+        }
+
+        static DocumentStructure from(Document document) {
+            List<StructuralElement> elements = document.getBody() == null || document.getBody().getContent() == null
+                    ? List.of()
+                    : document.getBody().getContent();
+            int endIndex = elements.isEmpty() ? 1 : elements.get(elements.size() - 1).getEndIndex();
+
+            // 이름 있는 범위는 이름을 키로 내려옴
+            Set<Long> exportedApplicationIds = new HashSet<>();
+            if (document.getNamedRanges() != null) {
+                for (String name : document.getNamedRanges().keySet()) {
+                    if (!name.startsWith(DocsRequests.APPLICATION_MARKER_PREFIX)) continue;
+                    try {
+                        exportedApplicationIds.add(Long.parseLong(name.substring(DocsRequests.APPLICATION_MARKER_PREFIX.length())));
+                    } catch (NumberFormatException ignored) {
+                        // 직접 만든 다른 이름 있는 범위
+                    }
+                }
+            }
+
+            return new DocumentStructure(document.getRevisionId(), endIndex, exportedApplicationIds);
+        }
+
+        public String getRevisionId() {
+            return revisionId;
+        }
+
+        public int getEndIndex() {
+            return endIndex;
+        }
+
+        public Set<Long> getExportedApplicationIds() {
+            return exportedApplicationIds;
+        }
+    }
+}
@@ -1,66 +1,88 @@
 package com.smlikelion.webfounder.Recruit.Service.docs;
 
-import com.google.api.services.docs.v1.Docs;
 import com.google.api.services.docs.v1.model.*;
-import com.smlikelion.webfounder.Recruit.Dto.Request.RecruitmentRequest;
-import com.smlikelion.webfounder.Recruit.Entity.SchoolStatus;
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.Programmers;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * 지원자 정보 표(2x8)를 생성하고 채우는 요청을 만든다.
+ * 새로 생성된 빈 표의 셀 위치는 삽입 위치만으로 정해지므로,
+ * 문서를 다시 읽지 않고 표 생성/셀 채우기/스타일을 같은 batchUpdate에 넣는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class DocsTableWriter {
 
-    private final Docs docsService;
+    public static final int ROWS = 2;
+    public static final int COLUMNS = 8;
 
-    public TableRef findLastTableRef(String docId) throws IOException {
-        Document doc = docsService.documents().get(docId).execute();
-        StructuralElement last = null;
-        for (StructuralElement el : doc.getBody().getContent()) {
-            if (el.getTable() != null) last = el;
-        }
-        return last == null ? null : new TableRef(last.getStartIndex(), last.getTable());
+    private final DocsRequests docsRequests;
+
+    /**
+     * 📌 빈 표의 셀 내용 시작 위치 계산
+     * location에 표를 삽입하면 줄바꿈이 먼저 들어가서 표는 location + 1에서 시작하고,
+     * 표 시작(1) + 행마다 [행 시작(1) + 열마다 (셀 시작(1) + 빈 문단(1))] 구조를 가진다.
+     */
+    public static int cellContentIndex(int location, int row, int column, int columns) {
+        int tableStart = location + 1;
+        return tableStart + 3 + row * (1 + 2 * columns) + 2 * column;
+    }
+
+    /**
+     * 📌 빈 표를 삽입했을 때 늘어나는 문서 길이 (앞 줄바꿈 포함, 위와 같은 구조)
+     */
+    public static int tableLength(int rows, int columns) {
+        return 1 + 1 + rows * (1 + 2 * columns);
     }
 
-    public void fillAndStyleTable(String documentId, TableRef ref, long applicationId, RecruitmentRequest req) throws IOException {
+    // location에 표를 생성하고 바로 채우는 요청 목록 (뒤쪽 표부터 호출해야 앞쪽 표의 위치가 밀리지 않음)
+    public List<Request> buildTable(int location, Joiner joiner) {
+        List<Request> requests = new ArrayList<>();
+        requests.add(docsRequests.insertTableAtIndex(ROWS, COLUMNS, location));
+        requests.addAll(buildFillRequests(location, joiner));
+        return requests;
+    }
+
+    private List<Request> buildFillRequests(int location, Joiner joiner) {
         List<String> headers = List.of(
                 "번호", "학번", "이메일", "전공",
                 "수료 학기", "재/휴학", "졸업연도", "프로그래머스"
         );
 
-        List<String> values = List.of(
-                String.valueOf(applicationId),
-                req.getStudentInfo().getStudentId(),
-                req.getStudentInfo().getEmail(),
-                req.getStudentInfo().getMajor(),
-                String.valueOf(req.getStudentInfo().getCompletedSem()),
-                SchoolStatus.valueOf(req.getStudentInfo().getSchoolStatus()).getLabel(),
-                req.getStudentInfo().getGraduatedYear(),
-                (req.getStudentInfo().getProgrammers().equals("NOT_ENROLLED")) ? "X" : "O"
+        // 비어 있는 값은 sanitize에서 ""로 바뀌고 삽입하지 않음
+        List<String> values = Arrays.asList(
+                String.valueOf(joiner.getId()),
+                joiner.getStudentId(),
+                joiner.getEmail(),
+                joiner.getMajor(),
+                String.valueOf(joiner.getCompletedSem()),
+                joiner.getSchoolStatus() != null ? joiner.getSchoolStatus().getLabel() : "",
+                joiner.getGraduatedYear(),
+                (joiner.getProgrammers() == Programmers.NOT_ENROLLED) ? "X" : "O"
         );
 
         List<Request> requests = new ArrayList<>();
 
-        // 끝에서부터 표 채우기
-        for (int r = ref.table.getRows() - 1; r >= 0; r--) {
-            TableRow row = ref.table.getTableRows().get(r);
+        // 끝에서부터 표 채우기 (앞쪽 셀 위치가 밀리지 않도록)
+        for (int r = ROWS - 1; r >= 0; r--) {
             List<String> contents = (r == 1 ? values : headers);
 
-            for (int c = ref.table.getColumns() - 1; c >= 0; c--) {
-                TableCell cell = row.getTableCells().get(c);
+            for (int c = COLUMNS - 1; c >= 0; c--) {
+                String content = DocsLayout.sanitize(contents.get(c));
+                if (content.isEmpty()) continue;
 
-                int cellStartIndex = cell.getStartIndex() + 1;
-                String content = contents.get(c);
-                int start = cell.getStartIndex() + 1;
+                int start = cellContentIndex(location, r, c, COLUMNS);
                 int end = start + content.length();
 
                 requests.add(new Request().setInsertText(new InsertTextRequest()
                         .setText(content)
-                        .setLocation(new Location().setIndex(cellStartIndex))));
+                        .setLocation(new Location().setIndex(start))));
 
                 boolean isHeader = (r == 0);
                 TextStyle ts = new TextStyle()
@@ -89,12 +111,12 @@ public class DocsTableWriter {
                 )
         );
 
-        for (int c = 0; c < 8; c++) {
+        for (int c = 0; c < COLUMNS; c++) {
             requests.add(new Request().setUpdateTableCellStyle(
                     new UpdateTableCellStyleRequest()
                             .setTableRange(new TableRange()
                                     .setTableCellLocation(new TableCellLocation()
-                                            .setTableStartLocation(new Location().setIndex(ref.startIndex))
+                                            .setTableStartLocation(new Location().setIndex(location + 1))
                                             .setRowIndex(0)
                                             .setColumnIndex(c))
                                     .setRowSpan(1)
@@ -104,18 +126,6 @@ public class DocsTableWriter {
             ));
         }
 
-        docsService.documents().batchUpdate(documentId,
-                new BatchUpdateDocumentRequest().setRequests(requests)).execute();
-    }
-
-    // 표 정보 객체
-    public static class TableRef {
-        public final int startIndex;
-        public final Table table;
-
-        public TableRef(int startIndex, Table table) {
-            this.startIndex = startIndex;
-            this.table = table;
-        }
+        return requests;
     }
 }
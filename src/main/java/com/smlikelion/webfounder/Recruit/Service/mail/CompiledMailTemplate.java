@@ -0,0 +1,88 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplateCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 번 파싱해 둔 메일 템플릿 (불변).
+ * 제목/본문을 고정 문자열 조각과 변수 자리로 나눠 두고, 받는 사람마다 변수 값만 끼워 넣는다.
+ */
+public final class CompiledMailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final MailTemplateCode code;
+    private final Text subject;
+    private final Text body;
+
+    private CompiledMailTemplate(MailTemplateCode code, Text subject, Text body) {
+        this.code = code;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    /**
+     * @throws IllegalArgumentException 닫히지 않은 {{ 또는 지원하지 않는 변수가 있는 경우
+     */
+    public static CompiledMailTemplate compile(MailTemplateCode code, String subject, String body) {
+        return new CompiledMailTemplate(code, Text.compile(subject), Text.compile(body));
+    }
+
+    public MailTemplateCode getCode() {
+        return code;
+    }
+
+    public OutgoingMail render(MailRecipient recipient) {
+        return OutgoingMail.of(recipient.getEmail(), subject.render(recipient), body.render(recipient));
+    }
+
+    // literals[0] + variables[0] + literals[1] + ... + literals[n]
+    static final class Text {
+        private final String[] literals;
+        private final MailTemplateVariable[] variables;
+        private final int literalLength;
+
+        private Text(List<String> literals, List<MailTemplateVariable> variables) {
+            this.literals = literals.toArray(new String[0]);
+            this.variables = variables.toArray(new MailTemplateVariable[0]);
+            this.literalLength = literals.stream().mapToInt(String::length).sum();
+        }
+
+        static Text compile(String source) {
+            List<String> literals = new ArrayList<>();
+            List<MailTemplateVariable> variables = new ArrayList<>();
+
+            int position = 0;
+            int open;
+            while ((open = source.indexOf(OPEN, position)) >= 0) {
+                int close = source.indexOf(CLOSE, open + OPEN.length());
+                if (close < 0) {
+                    throw new IllegalArgumentException("닫히지 않은 변수가 있습니다: " + source.substring(open));
+                }
+                String key = source.substring(open + OPEN.length(), close).trim();
+                MailTemplateVariable variable = MailTemplateVariable.getByKey(key);
+                if (variable == null) {
+                    throw new IllegalArgumentException("지원하지 않는 변수입니다: " + key);
+                }
+                literals.add(source.substring(position, open));
+                variables.add(variable);
+                position = close + CLOSE.length();
+            }
+            literals.add(source.substring(position));
+            return new Text(literals, variables);
+        }
+
+        String render(MailRecipient recipient) {
+            if (variables.length == 0) return literals[0];
+
+            StringBuilder builder = new StringBuilder(literalLength + variables.length * 16);
+            for (int i = 0; i < variables.length; i++) {
+                builder.append(literals[i]).append(variables[i].resolve(recipient));
+            }
+            return builder.append(literals[variables.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaign;
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaignRecipient;
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaignStatus;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import com.smlikelion.webfounder.Recruit.Repository.MailCampaignRecipientRepository;
+import com.smlikelion.webfounder.Recruit.Repository.MailCampaignRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 발송 작업(MailCampaign)을 Gmail SMTP 한도에 맞춰 조금씩 보내는 작업자.
+ * - 분당 rate-per-minute통 (순간적으로는 burst통까지), 하루 daily-limit통을 넘지 않도록 나눠 보낸다
+ * - 먼저 만들어진 작업부터 하나씩, 받는 사람 PENDING 행을 id 순서로 꺼내서 보낸다
+ * - 보낸 결과는 받는 사람 행에 바로 저장하므로 서버가 재시작되어도 남은 사람부터 이어서 보낸다
+ * 발송 직후 결과 저장 전에 서버가 죽으면 그 묶음은 한 번 더 발송될 수 있다.
+ */
+@Slf4j
+@Component
+public class MailCampaignSender {
+
+    private static final List<MailCampaignStatus> ACTIVE_STATUSES =
+            List.of(MailCampaignStatus.SENDING, MailCampaignStatus.QUEUED);
+
+    private final MailCampaignRepository campaignRepository;
+    private final MailCampaignRecipientRepository recipientRepository;
+    private final MailDeliveryEngine mailDeliveryEngine;
+    private final MailTemplateRegistry mailTemplateRegistry;
+    private final double ratePerMinute;
+    private final int burst;
+    private final long dailyLimit;
+
+    private double allowance;
+    private long lastRefill = System.nanoTime();
+    private LocalDate limitReachedOn;
+
+    public MailCampaignSender(MailCampaignRepository campaignRepository,
+                              MailCampaignRecipientRepository recipientRepository,
+                              MailDeliveryEngine mailDeliveryEngine,
+                              MailTemplateRegistry mailTemplateRegistry,
+                              @Value("${mail.campaign.rate-per-minute:60}") double ratePerMinute,
+                              @Value("${mail.campaign.burst:20}") int burst,
+                              @Value("${mail.campaign.daily-limit:2000}") long dailyLimit) {
+        this.campaignRepository = campaignRepository;
+        this.recipientRepository = recipientRepository;
+        this.mailDeliveryEngine = mailDeliveryEngine;
+        this.mailTemplateRegistry = mailTemplateRegistry;
+        this.ratePerMinute = Math.max(1, ratePerMinute);
+        this.burst = Math.max(1, burst);
+        this.dailyLimit = Math.max(1, dailyLimit);
+        this.allowance = this.burst;
+    }
+
+    @Scheduled(fixedDelayString = "${mail.campaign.poll-interval-ms:1000}")
+    public void sendNext() {
+        refill();
+        if (allowance < 1) return;
+
+        Optional<MailCampaign> next = campaignRepository.findFirstByStatusInOrderByIdAsc(ACTIVE_STATUSES);
+        if (next.isEmpty()) return;
+        MailCampaign campaign = next.get();
+
+        long remainingToday = dailyLimit - recipientRepository.countBySentAtAfter(LocalDate.now().atStartOfDay());
+        if (remainingToday <= 0) {
+            if (!LocalDate.now().equals(limitReachedOn)) {
+                limitReachedOn = LocalDate.now();
+                log.warn("오늘 메일 발송 한도({}통)에 도달해서 내일 이어서 보냅니다 - 작업 id: {}", dailyLimit, campaign.getId());
+            }
+            return;
+        }
+
+        int size = (int) Math.min((long) allowance, remainingToday);
+        List<MailCampaignRecipient> batch = recipientRepository.findByCampaignIdAndStatusOrderByIdAsc(
+                campaign.getId(), SendStatus.PENDING, PageRequest.of(0, size));
+        if (!batch.isEmpty()) {
+            allowance -= batch.size();
+            send(campaign, batch);
+        }
+
+        if (recipientRepository.countByCampaignIdAndStatus(campaign.getId(), SendStatus.PENDING) == 0) {
+            campaign.complete();
+            campaignRepository.save(campaign);
+            log.info("메일 발송 작업 완료 - 작업 id: {}, 성공: {}통, 실패: {}통",
+                    campaign.getId(), campaign.getSent(), campaign.getFailed());
+        }
+    }
+
+    private void send(MailCampaign campaign, List<MailCampaignRecipient> batch) {
+        CompiledMailTemplate template = mailTemplateRegistry.get(campaign.getTemplateCode());
+        List<OutgoingMail> mails = batch.stream()
+                .map(recipient -> template.render(MailRecipient.of(
+                        recipient.getRecipient(), recipient.getName(), recipient.getApplicationId(), recipient.getTrack())))
+                .collect(Collectors.toList());
+        MailDeliveryReport report = mailDeliveryEngine.deliverAll(campaign.getTemplateCode().name(), mails);
+
+        Set<String> failed = new HashSet<>(report.getFailedRecipients());
+        batch.forEach(recipient -> recipient.markSent(!failed.contains(recipient.getRecipient())));
+        recipientRepository.saveAll(batch);
+
+        int failedCount = (int) batch.stream().filter(recipient -> recipient.getStatus() == SendStatus.FAIL).count();
+        campaign.recordProgress(batch.size() - failedCount, failedCount);
+        campaignRepository.save(campaign);
+    }
+
+    // 분당 rate-per-minute통씩 채워지고 burst통까지 쌓이는 발송 허용량
+    private void refill() {
+        long now = System.nanoTime();
+        allowance = Math.min(burst, allowance + (now - lastRefill) * ratePerMinute / TimeUnit.MINUTES.toNanos(1));
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,194 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailDeliveryLog;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import com.smlikelion.webfounder.Recruit.Repository.MailDeliveryLogRepository;
+import com.sun.mail.smtp.SMTPSendFailedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 메일 발송 엔진.
+ * - 받는 사람마다 한 통씩 만들고, chunk-size통씩 묶어서 풀에서 빌린 SMTP 연결 하나로 이어서 보낸다
+ * - 묶음들은 mailExecutor에서 병렬로 보낸다 (동시 연결 수는 SmtpTransportPool 크기로 제한)
+ * - 연결 오류나 4xx 응답은 연결을 바꿔서 max-attempts번까지 재시도하고, 주소 오류(5xx)는 바로 실패 처리
+ * - 한 통마다 결과를 mail_delivery_log에 남긴다
+ */
+@Slf4j
+@Component
+public class MailDeliveryEngine {
+
+    private final SmtpTransportPool transportPool;
+    private final JavaMailSenderImpl mailSender;
+    private final MailDeliveryLogRepository deliveryLogRepository;
+    private final Executor mailExecutor;
+    private final MeterRegistry meterRegistry;
+    private final String from;
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public MailDeliveryEngine(SmtpTransportPool transportPool,
+                              JavaMailSenderImpl mailSender,
+                              MailDeliveryLogRepository deliveryLogRepository,
+                              @Qualifier("mailExecutor") Executor mailExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${mail.delivery.from:${spring.mail.username:}}") String from,
+                              @Value("${mail.delivery.chunk-size:50}") int chunkSize,
+                              @Value("${mail.delivery.max-attempts:3}") int maxAttempts,
+                              @Value("${mail.delivery.backoff-ms:1000}") long backoffMs) {
+        this.transportPool = transportPool;
+        this.mailSender = mailSender;
+        this.deliveryLogRepository = deliveryLogRepository;
+        this.mailExecutor = mailExecutor;
+        this.meterRegistry = meterRegistry;
+        this.from = from;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = Math.max(0, backoffMs);
+    }
+
+    /**
+     * 한 통을 보낸다. 재시도 후에도 실패하면 MailSendException.
+     */
+    public void deliver(String kind, OutgoingMail mail) {
+        MailDeliveryLog result = sendChunk(kind, List.of(mail)).get(0);
+        if (result.getStatus() != SendStatus.SUCCESS) {
+            throw new MailSendException(result.getLastError() == null ? "메일 전송 실패" : result.getLastError());
+        }
+    }
+
+    /**
+     * 여러 통을 묶음 단위로 병렬 발송하고, 모두 끝나면 결과를 돌려준다.
+     */
+    public MailDeliveryReport deliverAll(String kind, List<OutgoingMail> mails) {
+        List<CompletableFuture<List<MailDeliveryLog>>> chunks = new ArrayList<>();
+        for (int start = 0; start < mails.size(); start += chunkSize) {
+            List<OutgoingMail> chunk = mails.subList(start, Math.min(start + chunkSize, mails.size()));
+            chunks.add(submitChunk(kind, chunk));
+        }
+
+        List<MailDeliveryLog> results = chunks.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        List<String> failed = results.stream()
+                .filter(result -> result.getStatus() != SendStatus.SUCCESS)
+                .map(MailDeliveryLog::getRecipient)
+                .collect(Collectors.toList());
+        log.info("메일 발송 완료 - 종류: {}, 요청: {}건, 성공: {}건, 실패: {}건",
+                kind, mails.size(), results.size() - failed.size(), failed.size());
+        return new MailDeliveryReport(mails.size(), results.size() - failed.size(), failed);
+    }
+
+    // 실행기가 가득 차면 호출한 스레드에서 직접 보낸다
+    private CompletableFuture<List<MailDeliveryLog>> submitChunk(String kind, List<OutgoingMail> chunk) {
+        try {
+            return CompletableFuture.supplyAsync(() -> sendChunk(kind, chunk), mailExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(sendChunk(kind, chunk));
+        }
+    }
+
+    private List<MailDeliveryLog> sendChunk(String kind, List<OutgoingMail> chunk) {
+        List<MailDeliveryLog> results = new ArrayList<>(chunk.size());
+        SmtpTransportPool.PooledTransport transport = null;
+        try {
+            for (OutgoingMail mail : chunk) {
+                int attempts = 0;
+                String lastError = null;
+                boolean sent = false;
+
+                while (!sent && attempts < maxAttempts) {
+                    attempts++;
+                    try {
+                        if (transport == null) transport = transportPool.borrow();
+                        transport.send(toMimeMessage(mail));
+                        sent = true;
+                    } catch (MessagingException e) {
+                        lastError = e.getMessage();
+                        if (!isTransient(e)) break;
+
+                        if (transport != null) {
+                            transportPool.invalidate(transport);
+                            transport = null;
+                        }
+                        if (attempts < maxAttempts && !sleep(backoffMs * attempts)) break;
+                    }
+                }
+
+                if (!sent) {
+                    log.warn("메일 전송 실패 - 받는 사람: {}, 시도: {}회, 원인: {}", mail.getRecipient(), attempts, lastError);
+                }
+                meterRegistry.counter(sent ? "mail.delivery.sent" : "mail.delivery.failed", "kind", kind).increment();
+                results.add(MailDeliveryLog.builder()
+                        .kind(kind)
+                        .recipient(mail.getRecipient())
+                        .subject(mail.getSubject())
+                        .status(sent ? SendStatus.SUCCESS : SendStatus.FAIL)
+                        .attempts(attempts)
+                        .lastError(truncate(lastError))
+                        .build());
+            }
+        } finally {
+            if (transport != null) transportPool.release(transport);
+        }
+
+        try {
+            deliveryLogRepository.saveAll(results);
+        } catch (Exception e) {
+            log.error("메일 발송 기록 저장 실패 - 종류: {}, {}건, 원인: {}", kind, results.size(), e.getMessage());
+        }
+        return results;
+    }
+
+    // 주소/본문 문제(5xx)는 다시 보내도 같은 결과, 4xx 응답과 연결 오류만 재시도
+    private boolean isTransient(MessagingException e) {
+        if (e instanceof SMTPSendFailedException) {
+            return ((SMTPSendFailedException) e).getReturnCode() / 100 == 4;
+        }
+        return !(e instanceof SendFailedException);
+    }
+
+    private MimeMessage toMimeMessage(OutgoingMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        if (from != null && !from.isBlank()) helper.setFrom(from);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getText());
+        return message;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String truncate(String error) {
+        return error == null ? null : error.substring(0, Math.min(error.length(), 500));
+    }
+}
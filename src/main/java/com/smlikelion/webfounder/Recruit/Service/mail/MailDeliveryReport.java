@@ -0,0 +1,14 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MailDeliveryReport {
+    private final int requested;
+    private final int sent;
+    private final List<String> failedRecipients;
+}
@@ -0,0 +1,19 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 받는 사람과 템플릿에 들어갈 값 (없는 값은 null)
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class MailRecipient {
+    private final String email;
+    private final String name;
+    private final Long applicationId;
+    private final Track track;
+
+    public static MailRecipient of(String email) {
+        return new MailRecipient(email, null, null, null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplateCode;
+import com.smlikelion.webfounder.Recruit.Repository.MailTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 종류별 컴파일된 메일 템플릿 캐시.
+ * 처음 쓸 때 DB(없으면 기본 템플릿)에서 읽어 컴파일하고, 템플릿이 수정되면 invalidate로 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailTemplateRegistry {
+
+    private final MailTemplateRepository mailTemplateRepository;
+    private final Map<MailTemplateCode, CompiledMailTemplate> cache = new ConcurrentHashMap<>();
+
+    public CompiledMailTemplate get(MailTemplateCode code) {
+        return cache.computeIfAbsent(code, this::load);
+    }
+
+    public void invalidate(MailTemplateCode code) {
+        cache.remove(code);
+    }
+
+    private CompiledMailTemplate load(MailTemplateCode code) {
+        return mailTemplateRepository.findByCode(code)
+                .map(template -> {
+                    try {
+                        return CompiledMailTemplate.compile(code, template.getSubject(), template.getBody());
+                    } catch (IllegalArgumentException e) {
+                        log.error("저장된 메일 템플릿을 컴파일할 수 없어 기본 템플릿을 사용합니다 - 종류: {}, 원인: {}", code, e.getMessage());
+                        return null;
+                    }
+                })
+                .orElseGet(() -> CompiledMailTemplate.compile(code, code.getDefaultSubject(), code.getDefaultBody()));
+    }
+}
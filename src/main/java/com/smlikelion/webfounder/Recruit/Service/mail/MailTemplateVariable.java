@@ -0,0 +1,55 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+
+import java.util.function.Function;
+
+/**
+ * 템플릿에서 {{key}}로 쓸 수 있는 변수. 목록에 없는 변수는 템플릿 저장 시점에 거절한다.
+ */
+public enum MailTemplateVariable {
+    NAME("name", recipient -> recipient.getName()),
+    APPLICATION_ID("applicationId", recipient ->
+            recipient.getApplicationId() == null ? null : String.valueOf(recipient.getApplicationId())),
+    TRACK("track", recipient -> trackLabel(recipient.getTrack()));
+
+    private final String key;
+    private final Function<MailRecipient, String> resolver;
+
+    MailTemplateVariable(String key, Function<MailRecipient, String> resolver) {
+        this.key = key;
+        this.resolver = resolver;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    String resolve(MailRecipient recipient) {
+        String value = resolver.apply(recipient);
+        return value == null ? "" : value;
+    }
+
+    static MailTemplateVariable getByKey(String key) {
+        for (MailTemplateVariable variable : values()) {
+            if (variable.key.equals(key)) {
+                return variable;
+            }
+        }
+        return null;
+    }
+
+    private static String trackLabel(Track track) {
+        if (track == null) return null;
+        switch (track) {
+            case PLANDESIGN:
+                return "기획/디자인";
+            case FRONTEND:
+                return "프론트엔드";
+            case BACKEND:
+                return "백엔드";
+            default:
+                return track.getTrackName();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 받는 사람 한 명에게 보내는 메일 (주소가 다른 받는 사람에게 노출되지 않도록 한 통에 한 명)
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class OutgoingMail {
+    private final String recipient;
+    private final String subject;
+    private final String text;
+}
@@ -0,0 +1,137 @@
+package com.smlikelion.webfounder.Recruit.Service.mail;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증까지 마친 SMTP 연결을 재사용하는 풀.
+ * JavaMailSender.send는 메일마다 연결 → STARTTLS → 로그인 → 종료를 반복하므로,
+ * 연결을 빌려서 여러 통을 보내고 돌려준다. 동시에 열 수 있는 연결은 size개로 제한하고,
+ * 연결 하나로 max-messages-per-connection통을 보내면 새로 연결한다 (SMTP 서버의 연결당 제한 대비).
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool implements DisposableBean {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PooledTransport> idle = new LinkedBlockingQueue<>();
+    private final Semaphore permits;
+    private final int maxMessagesPerConnection;
+    private final long borrowTimeoutMs;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             MeterRegistry meterRegistry,
+                             @Value("${mail.smtp.pool.size:4}") int size,
+                             @Value("${mail.smtp.pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                             @Value("${mail.smtp.pool.borrow-timeout-ms:30000}") long borrowTimeoutMs) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(Math.max(1, size));
+        this.maxMessagesPerConnection = Math.max(1, maxMessagesPerConnection);
+        this.borrowTimeoutMs = borrowTimeoutMs;
+
+        int limit = Math.max(1, size);
+        Gauge.builder("mail.smtp.pool.active", permits, p -> limit - p.availablePermits())
+                .description("사용 중인 SMTP 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.smtp.pool.idle", idle, BlockingQueue::size)
+                .description("대기 중인 SMTP 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결을 빌린다. 쉬고 있는 연결이 끊겨 있으면 다시 연결하고, 없으면 새로 연결한다.
+     * 다 쓴 연결은 반드시 release 또는 invalidate로 돌려줘야 한다.
+     */
+    public PooledTransport borrow() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("사용 가능한 SMTP 연결이 없습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("SMTP 연결 대기 중 중단되었습니다.");
+        }
+
+        try {
+            PooledTransport transport = idle.poll();
+            if (transport != null && transport.isConnected()) {
+                return transport;
+            }
+            if (transport != null) transport.close();
+            return connect();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(PooledTransport transport) {
+        if (transport.sent >= maxMessagesPerConnection) {
+            transport.close();
+        } else {
+            idle.offer(transport);
+        }
+        permits.release();
+    }
+
+    // 오류가 난 연결은 재사용하지 않음
+    public void invalidate(PooledTransport transport) {
+        transport.close();
+        permits.release();
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        log.debug("SMTP 연결 생성: {}:{}", mailSender.getHost(), mailSender.getPort());
+        return new PooledTransport(transport);
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport transport;
+        while ((transport = idle.poll()) != null) {
+            transport.close();
+        }
+    }
+
+    public static class PooledTransport {
+        private final Transport transport;
+        private int sent = 0;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sent++;
+        }
+
+        private boolean isConnected() {
+            return transport.isConnected();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+}
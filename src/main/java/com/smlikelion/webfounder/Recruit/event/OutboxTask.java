@@ -0,0 +1,37 @@
+package com.smlikelion.webfounder.Recruit.event;
+
+import com.smlikelion.webfounder.Recruit.Entity.RecruitOutbox;
+
+/**
+ * 실행기에 넘기는 후속 작업. 실행기가 가득 차서 거절되면 spill 작업으로 recruit_outbox 에 다시 기록된다.
+ * 이미 recruit_outbox 에서 꺼낸 작업(pending)은 다시 기록하지 않고 거절을 호출한 쪽에 그대로 알린다.
+ */
+public final class OutboxTask implements Runnable {
+
+    private final RecruitOutbox spill;
+    private final Runnable body;
+
+    private OutboxTask(RecruitOutbox spill, Runnable body) {
+        this.spill = spill;
+        this.body = body;
+    }
+
+    public static OutboxTask of(RecruitOutbox spill, Runnable body) {
+        return new OutboxTask(spill, body);
+    }
+
+    // RecruitOutboxDispatcher가 넘기는 작업: 거절되면 원래 행을 PENDING으로 남겨 다음 주기에 다시 넘긴다
+    public static OutboxTask pending(Runnable body) {
+        return new OutboxTask(null, body);
+    }
+
+    // pending 작업이면 null
+    public RecruitOutbox getSpill() {
+        return spill;
+    }
+
+    @Override
+    public void run() {
+        body.run();
+    }
+}
@@ -0,0 +1,164 @@
+package com.smlikelion.webfounder.Recruit.event;
+
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.OutboxType;
+import com.smlikelion.webfounder.Recruit.Entity.RecruitOutbox;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.Recruit.Repository.RecruitOutboxRepository;
+import com.smlikelion.webfounder.Recruit.Service.MailService;
+import com.smlikelion.webfounder.Recruit.Service.S3CleanupService;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsExportQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * recruit_outbox 의 PENDING 작업을 batch-size건씩 꺼내서 Google Docs 대기열 / 메일 / S3 정리 실행기로 넘긴다.
+ * 작업은 지원서와 같은 트랜잭션에 저장되므로, 배포/재시작 중에 접수된 지원서도 빠지지 않는다.
+ * 넘긴 뒤의 진행 상황은 Joiner.googleDocsStatus / mailStatus 로 추적하고, 멈춘 작업은 SendStatusReconciler가 다시 처리한다.
+ */
+@Slf4j
+@Component
+public class RecruitOutboxDispatcher {
+
+    private final RecruitOutboxRepository outboxRepository;
+    private final JoinerRepository joinerRepository;
+    private final DocsExportQueue docsExportQueue;
+    private final MailService mailService;
+    private final S3CleanupService s3CleanupService;
+    private final Executor mailExecutor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retentionDays;
+
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+
+    public RecruitOutboxDispatcher(RecruitOutboxRepository outboxRepository,
+                                   JoinerRepository joinerRepository,
+                                   DocsExportQueue docsExportQueue,
+                                   MailService mailService,
+                                   S3CleanupService s3CleanupService,
+                                   @Qualifier("mailExecutor") Executor mailExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${recruit.outbox.batch-size:50}") int batchSize,
+                                   @Value("${recruit.outbox.max-attempts:10}") int maxAttempts,
+                                   @Value("${recruit.outbox.retention-days:7}") long retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.joinerRepository = joinerRepository;
+        this.docsExportQueue = docsExportQueue;
+        this.mailService = mailService;
+        this.s3CleanupService = s3CleanupService;
+        this.mailExecutor = mailExecutor;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retentionDays = Math.max(1, retentionDays);
+
+        this.dispatchedCounter = meterRegistry.counter("recruit.outbox.dispatched");
+        this.failedCounter = meterRegistry.counter("recruit.outbox.failed");
+        Gauge.builder("recruit.outbox.pending", outboxRepository, repository -> repository.countByStatus(SendStatus.PENDING))
+                .description("아직 처리기로 넘기지 않은 후속 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${recruit.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        try {
+            List<RecruitOutbox> batch;
+            boolean backpressured;
+            do {
+                batch = outboxRepository.findByStatusOrderByIdAsc(SendStatus.PENDING, PageRequest.of(0, batchSize));
+                backpressured = dispatchBatch(batch);
+            } while (batch.size() == batchSize && !backpressured);
+        } catch (Exception e) {
+            log.error("후속 작업 처리 중 오류 발생", e);
+        }
+    }
+
+    // 처리 완료된 작업은 retention-days가 지나면 삭제
+    @Scheduled(cron = "${recruit.outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        int deleted = outboxRepository.deleteByStatusAndCreatedAtBefore(
+                SendStatus.SUCCESS, LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("처리 완료된 후속 작업 {}건 삭제", deleted);
+        }
+    }
+
+    // 대기열/실행기가 가득 차서 넘기지 못한 작업이 있으면 true (PENDING으로 남겨 다음 주기에 다시 시도)
+    private boolean dispatchBatch(List<RecruitOutbox> batch) {
+        if (batch.isEmpty()) return false;
+
+        List<Long> joinerIds = batch.stream()
+                .filter(row -> row.getType() == OutboxType.DOCS_EXPORT)
+                .map(RecruitOutbox::getJoinerId)
+                .collect(Collectors.toList());
+        Map<Long, Joiner> joiners = joinerIds.isEmpty() ? Map.of() : joinerRepository.findAllById(joinerIds).stream()
+                .collect(Collectors.toMap(Joiner::getId, Function.identity()));
+
+        boolean backpressured = false;
+        List<RecruitOutbox> handled = new ArrayList<>();
+        for (RecruitOutbox row : batch) {
+            if (backpressured) break;
+            try {
+                switch (row.getType()) {
+                    case DOCS_EXPORT:
+                        Joiner joiner = joiners.get(row.getJoinerId());
+                        // 처리 전에 삭제된 지원서는 넘기지 않음
+                        if (joiner != null) {
+                            docsExportQueue.enqueue(row.getDocumentId(), joiner.getId(), joiner.getTrack());
+                        }
+                        break;
+                    case APPLY_MAIL:
+                        // 메일 실행기가 가득 차면 거절되어 이 행을 PENDING으로 남기고 이번 주기를 멈춤
+                        mailExecutor.execute(OutboxTask.pending(
+                                () -> sendApplyMail(row.getJoinerId(), row.getEmail())));
+                        break;
+                    case S3_CLEANUP:
+                        s3CleanupService.deletePending(row.getJoinerId(), row.getFileName());
+                        break;
+                }
+                row.markDispatched();
+                dispatchedCounter.increment();
+                handled.add(row);
+            } catch (RejectedExecutionException e) {
+                backpressured = true;
+                log.warn("{} 처리기가 가득 차서 다음 주기에 다시 넘깁니다 - id: {}", row.getType(), row.getId());
+            } catch (Exception e) {
+                row.markFailed(e.getMessage(), maxAttempts);
+                failedCounter.increment();
+                log.warn("후속 작업 처리 실패 - id: {}, 유형: {}, 시도: {}회, 원인: {}",
+                        row.getId(), row.getType(), row.getAttempts(), e.getMessage());
+                handled.add(row);
+            }
+        }
+        outboxRepository.saveAll(handled);
+        return backpressured;
+    }
+
+    private void sendApplyMail(Long joinerId, String email) {
+        try {
+            mailService.sendApplyStatusMail(email);
+            joinerRepository.updateMailStatus(joinerId, SendStatus.SUCCESS);
+        } catch (Exception e) {
+            joinerRepository.updateMailStatus(joinerId, SendStatus.FAIL);
+            log.error("메일 전송 실패 - joinerId: {}, 원인:{}", joinerId, e.getMessage(), e);
+        }
+    }
+}
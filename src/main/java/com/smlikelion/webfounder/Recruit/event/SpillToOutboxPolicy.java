@@ -0,0 +1,47 @@
+package com.smlikelion.webfounder.Recruit.event;
+
+import com.smlikelion.webfounder.Recruit.Repository.RecruitOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 대기열이 가득 찬 실행기의 거절 정책.
+ * OutboxTask는 버리지 않고 recruit_outbox 에 PENDING으로 저장해서 RecruitOutboxDispatcher가 나중에 다시 넘기게 하고,
+ * 그 외 작업과 이미 recruit_outbox 에 있는 작업(OutboxTask.pending)은 호출한 쪽에서 처리하도록 RejectedExecutionException을 던진다.
+ */
+@Slf4j
+public class SpillToOutboxPolicy implements RejectedExecutionHandler {
+
+    private final String executorName;
+    private final RecruitOutboxRepository outboxRepository;
+    private final Counter rejectedCounter;
+
+    public SpillToOutboxPolicy(String executorName, RecruitOutboxRepository outboxRepository, Counter rejectedCounter) {
+        this.executorName = executorName;
+        this.outboxRepository = outboxRepository;
+        this.rejectedCounter = rejectedCounter;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        reject(task, executor.isShutdown());
+    }
+
+    // 스레드 풀이 아닌 실행기(가상 스레드 모드)에서도 같은 정책을 쓰기 위한 진입점
+    public void reject(Runnable task, boolean shuttingDown) {
+        rejectedCounter.increment();
+
+        if (task instanceof OutboxTask && ((OutboxTask) task).getSpill() != null && !shuttingDown) {
+            OutboxTask outboxTask = (OutboxTask) task;
+            outboxRepository.save(outboxTask.getSpill());
+            log.warn("{} 실행기가 가득 차서 작업을 후속 작업 테이블로 옮겼습니다 - 유형: {}, joinerId: {}",
+                    executorName, outboxTask.getSpill().getType(), outboxTask.getSpill().getJoinerId());
+            return;
+        }
+        throw new RejectedExecutionException(executorName + " 실행기가 작업을 거절했습니다.");
+    }
+}
@@ -27,4 +27,11 @@ public class EmailExceptionHandler {
         log.error("Email-002> 요청 URI: " + request.getRequestURI() + ", 에러메세지: " + e.getMessage());
         return new BaseResponse<>(ErrorCode.APPLY_MAIL_SEND_ERROR);
     }
+
+    @ExceptionHandler(InvalidMailTemplateException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public BaseResponse<?> handleInvalidMailTemplateException(InvalidMailTemplateException e, HttpServletRequest request) {
+        log.warn("Email-003> 요청 URI: " + request.getRequestURI() + ", 에러메세지: " + e.getMessage());
+        return new BaseResponse<>(ErrorCode.INVALID_MAIL_TEMPLATE_ERROR);
+    }
 }
@@ -0,0 +1,7 @@
+package com.smlikelion.webfounder.Recruit.exception;
+
+public class InvalidMailTemplateException extends RuntimeException {
+    public InvalidMailTemplateException(String message) {
+        super(message);
+    }
+}
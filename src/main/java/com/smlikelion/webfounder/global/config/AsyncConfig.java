@@ -1,22 +1,95 @@
 package com.smlikelion.webfounder.global.config;
 
+import com.smlikelion.webfounder.Recruit.Repository.RecruitOutboxRepository;
+import com.smlikelion.webfounder.Recruit.event.SpillToOutboxPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
 
+/**
+ * 작업 종류별 실행기. 하나의 외부 의존성(SMTP, S3, Google Docs)이 느려져도 다른 작업이 밀리지 않도록 나눈다.
+ * 각 실행기는 executor.active / executor.queued / executor.completed / executor.rejected {name=...} 지표를 남긴다.
+ * async.mode=virtual 이면 스레드 풀 대신 가상 스레드로 실행하고, 동시 실행 수는 max-concurrency로 제한한다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+
+    private static final String REJECTED_METRIC = "executor.rejected";
+
+    @Value("${async.mode:platform}")
+    private String mode;
+
+    // 접수 메일 전송 (가득 차면 후속 작업 테이블로)
+    @Bean(name = "mailExecutor")
+    public Executor mailExecutor(MeterRegistry meterRegistry,
+                                 RecruitOutboxRepository outboxRepository,
+                                 @Value("${async.mail.core-size:4}") int coreSize,
+                                 @Value("${async.mail.max-size:8}") int maxSize,
+                                 @Value("${async.mail.queue-capacity:500}") int queueCapacity,
+                                 @Value("${async.mail.max-concurrency:8}") int maxConcurrency) {
+        SpillToOutboxPolicy policy = spillPolicy("mail", outboxRepository, meterRegistry);
+        if (isVirtual()) {
+            return new VirtualThreadExecutor("mail", maxConcurrency, queueCapacity, policy, meterRegistry);
+        }
+        return instrumented("mail", coreSize, maxSize, queueCapacity, policy, meterRegistry);
+    }
+
+    // 삭제된 지원서의 S3 파일 정리 (가득 차면 후속 작업 테이블로)
+    @Bean(name = "s3CleanupExecutor")
+    public Executor s3CleanupExecutor(MeterRegistry meterRegistry,
+                                      RecruitOutboxRepository outboxRepository,
+                                      @Value("${async.s3-cleanup.core-size:1}") int coreSize,
+                                      @Value("${async.s3-cleanup.max-size:2}") int maxSize,
+                                      @Value("${async.s3-cleanup.queue-capacity:1000}") int queueCapacity,
+                                      @Value("${async.s3-cleanup.max-concurrency:4}") int maxConcurrency) {
+        SpillToOutboxPolicy policy = spillPolicy("s3-cleanup", outboxRepository, meterRegistry);
+        if (isVirtual()) {
+            return new VirtualThreadExecutor("s3-cleanup", maxConcurrency, queueCapacity, policy, meterRegistry);
+        }
+        return instrumented("s3-cleanup", coreSize, maxSize, queueCapacity, policy, meterRegistry);
+    }
+
+    // Google Docs 문서별 쓰기 lane (문서 하나당 스레드 하나, 대기열 없음)
+    @Bean(name = "docsExportExecutor")
+    public Executor docsExportExecutor(MeterRegistry meterRegistry,
+                                       RecruitOutboxRepository outboxRepository,
+                                       @Value("${google.docs.export.max-lanes:4}") int maxLanes) {
+        SpillToOutboxPolicy policy = spillPolicy("docs-export", outboxRepository, meterRegistry);
+        if (isVirtual()) {
+            return new VirtualThreadExecutor("docs-export", maxLanes, 0, policy, meterRegistry);
+        }
+        return instrumented("docs-export", maxLanes, maxLanes, 0, policy, meterRegistry);
+    }
+
+    private boolean isVirtual() {
+        return "virtual".equalsIgnoreCase(mode.trim());
+    }
+
+    private SpillToOutboxPolicy spillPolicy(String name, RecruitOutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        return new SpillToOutboxPolicy(name, outboxRepository, meterRegistry.counter(REJECTED_METRIC, "name", name));
+    }
+
+    private ThreadPoolTaskExecutor instrumented(String name, int coreSize, int maxSize, int queueCapacity,
+                                                RejectedExecutionHandler rejectedExecutionHandler,
+                                                MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);    // 최소 스레드 수
-        executor.setMaxPoolSize(20);     // 최대 허용 스레드 수
-        executor.setQueueCapacity(200);  // 대기 작업
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
         executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
         return executor;
     }
 }
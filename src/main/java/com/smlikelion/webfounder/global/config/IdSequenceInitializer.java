@@ -0,0 +1,45 @@
+package com.smlikelion.webfounder.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+/**
+ * id 생성 테이블(joiner_seq 등)의 다음 값을 기존 최대 id 뒤로 맞춘다.
+ * AUTO_INCREMENT로 쌓인 데이터가 있는 상태에서 생성 테이블이 새로 만들어지면 1부터 시작해서 id가 겹치기 때문.
+ * 다음 값은 올리기만 하므로 여러 서버가 동시에 실행해도 안전하다.
+ * (EntityManagerFactory를 받아서 스키마 갱신이 끝난 뒤에 실행되도록 함)
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    // {id 생성 테이블, 엔티티 테이블, id 컬럼}
+    private static final List<String[]> SEQUENCES = List.of(
+            new String[]{"joiner_seq", "joiner", "joiners_id"},
+            new String[]{"candidate_seq", "candidate", "candidate_id"},
+            new String[]{"recruit_outbox_seq", "recruit_outbox", "recruit_outbox_id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        for (String[] sequence : SEQUENCES) {
+            try {
+                jdbcTemplate.update("UPDATE " + sequence[0] + " SET next_val = GREATEST(next_val, " +
+                        "(SELECT COALESCE(MAX(" + sequence[2] + "), 0) + 1 FROM " + sequence[1] + "))");
+            } catch (Exception e) {
+                log.warn("id 생성 테이블 {} 맞추기 실패: {}", sequence[0], e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.smlikelion.webfounder.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Hibernate JDBC 배치 설정. 같은 테이블의 insert/update를 모아서 batch-size개씩 한 번에 보낸다.
+ * MySQL에서는 JDBC URL에 rewriteBatchedStatements=true가 있어야 여러 행 insert 한 문장으로 바뀐다.
+ * (환경 변수로는 hibernate.jdbc.batch_size처럼 밑줄이 들어간 키를 지정할 수 없어서 코드로 설정)
+ */
+@Configuration
+public class JpaBatchConfig implements HibernatePropertiesCustomizer {
+
+    @Value("${jpa.batch-size:50}")
+    private int batchSize;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put("hibernate.jdbc.batch_size", batchSize);
+        hibernateProperties.put("hibernate.order_inserts", true);
+        hibernateProperties.put("hibernate.order_updates", true);
+        hibernateProperties.put("hibernate.jdbc.batch_versioned_data", true);
+        // ddl-auto=update가 기동할 때마다 유니크 인덱스(uk_joiner_student_id 등)를 지웠다 다시 만들지 않도록, 없을 때만 생성
+        hibernateProperties.put("hibernate.schema_update.unique_constraint_strategy", "RECREATE_QUIETLY");
+    }
+}
@@ -0,0 +1,104 @@
+package com.smlikelion.webfounder.global.config;
+
+import com.smlikelion.webfounder.Recruit.event.SpillToOutboxPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작업마다 가상 스레드를 하나씩 띄우는 실행기 (async.mode=virtual).
+ * 외부 의존성별 동시 실행 수는 스레드 풀 크기 대신 Semaphore(maxConcurrency)로 제한하고,
+ * 허가를 기다리는 작업이 maxPending을 넘으면 거절 정책(SpillToOutboxPolicy)으로 넘긴다.
+ * 스레드 풀 실행기와 같은 executor.active / executor.queued / executor.completed {name=...} 지표를 남긴다.
+ */
+@Slf4j
+public class VirtualThreadExecutor implements Executor, DisposableBean {
+
+    private final String name;
+    private final Semaphore permits;
+    private final int maxPending;
+    private final SpillToOutboxPolicy rejectionPolicy;
+    private final ThreadFactory threadFactory;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown = false;
+
+    public VirtualThreadExecutor(String name, int maxConcurrency, int maxPending,
+                                 SpillToOutboxPolicy rejectionPolicy, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.maxPending = Math.max(0, maxPending);
+        this.rejectionPolicy = rejectionPolicy;
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+
+        int limit = Math.max(1, maxConcurrency);
+        Gauge.builder("executor.active", permits, p -> limit - p.availablePermits())
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("executor.queued", pending, AtomicInteger::get)
+                .tag("name", name).register(meterRegistry);
+        FunctionCounter.builder("executor.completed", completed, AtomicLong::get)
+                .tag("name", name).register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            rejectionPolicy.reject(task, true);
+            return;
+        }
+
+        boolean acquired = permits.tryAcquire();
+        if (!acquired && pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            rejectionPolicy.reject(task, false);
+            return;
+        }
+        threadFactory.newThread(() -> run(task, acquired)).start();
+    }
+
+    private void run(Runnable task, boolean acquired) {
+        Thread current = Thread.currentThread();
+        running.add(current);
+        try {
+            if (!acquired) {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.error("{} 작업 실행 중 오류 발생", name, t);
+            } finally {
+                permits.release();
+                completed.incrementAndGet();
+            }
+        } finally {
+            running.remove(current);
+        }
+    }
+
+    // 종료 시 실행 중인 작업(Google Docs 쓰기 lane 등)을 중단
+    @Override
+    public void destroy() {
+        shutdown = true;
+        running.forEach(Thread::interrupt);
+    }
+}
@@ -49,6 +49,7 @@ public enum ErrorCode {
     MISMATCHED_TRACK_ERROR(false, HttpStatus.BAD_REQUEST.value(), "해당 트랙과 일치하지 않습니다."),
     INVALID_INTERVIEW_PASS_ERROR(false,HttpStatus.BAD_REQUEST.value(),"서류 불합격자가 포함되어 있습니다."),
     DELETE_ENTITY_ERROR(false, HttpStatus.BAD_REQUEST.value(), "서류 전체 삭제 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요"),
+    INVALID_CURSOR_ERROR(false, HttpStatus.BAD_REQUEST.value(), "올바르지 않은 페이지 커서입니다."),
     LATE_APPLY(false, HttpStatus.BAD_REQUEST.value(), "지원 마감 시한이 지났습니다."),
 
     //result
@@ -58,6 +59,7 @@ public enum ErrorCode {
 
     //mail
     APPLY_MAIL_SEND_ERROR(false, HttpStatus.BAD_REQUEST.value(), "지원서 제출 메일 전송 중 문제가 발생했습니다. 이메일을 다시 확인해주세요."),
+    INVALID_MAIL_TEMPLATE_ERROR(false, HttpStatus.BAD_REQUEST.value(), "메일 템플릿 형식이 올바르지 않습니다. 지원하는 변수만 사용해주세요."),
 
     DUPLICATE_STUDENT_ID_ERROR(false, HttpStatus.CONFLICT.value(), "동일한 학번으로 중복된 지원서가 이미 제출되었습니다.");
 
@@ -1,11 +1,17 @@
 package com.smlikelion.webfounder.manage.controller;
 
+import com.smlikelion.webfounder.Recruit.Dto.Request.MailTemplateRequest;
+import com.smlikelion.webfounder.Recruit.Dto.Response.MailCampaignResponse;
+import com.smlikelion.webfounder.Recruit.Dto.Response.MailTemplateResponse;
 import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.Recruit.Service.MailTemplateService;
 import com.smlikelion.webfounder.global.dto.response.BaseResponse;
 import com.smlikelion.webfounder.global.dto.response.ErrorCode;
 import com.smlikelion.webfounder.manage.dto.request.*;
 import com.smlikelion.webfounder.manage.dto.response.*;
+import com.smlikelion.webfounder.manage.service.ApplicantImportService;
 import com.smlikelion.webfounder.manage.service.ManageService;
+import com.smlikelion.webfounder.manage.service.ResultNotificationService;
 import com.smlikelion.webfounder.manage.service.SQLExecutionService;
 import com.smlikelion.webfounder.security.Auth;
 import com.smlikelion.webfounder.security.AuthInfo;
@@ -14,7 +20,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import com.smlikelion.webfounder.Recruit.Entity.Joiner;
 
 
@@ -30,6 +38,9 @@ public class ManageController {
     private final ManageService manageService;
     private final JoinerRepository joinerRepository;
     private final SQLExecutionService sqlExecutionService;
+    private final MailTemplateService mailTemplateService;
+    private final ResultNotificationService resultNotificationService;
+    private final ApplicantImportService applicantImportService;
 
     @Operation(summary = "서류 질문 등록하기")
     @PostMapping("/docs/quest")
@@ -148,17 +159,22 @@ public class ManageController {
         }
     }
 
-    @Operation(summary = "지원현황 및 지원서류 조회하기")
+    @Operation(summary = "지원현황 및 지원서류 조회하기",
+            description = "cursor를 넘기면 커서 페이지로 조회합니다 (첫 페이지는 빈 값, 이후 응답의 nextCursor). 없으면 page 번호로 조회합니다.")
     @GetMapping("/apply")
     public BaseResponse<ApplicationStatusResponse> getApplicationStatus(
             @Auth AuthInfo authInfo,
             @RequestParam("track") String track,
             @RequestParam(value="page", required = false, defaultValue = "0") int page,
-            @RequestParam(value="size", required = false, defaultValue = "10") int size) {
+            @RequestParam(value="size", required = false, defaultValue = "10") int size,
+            @RequestParam(value="cursor", required = false) String cursor) {
         if( page < 0 || size <= 0) {
             page = 0;
             size = 10;
         }
+        if (cursor != null) {
+            return new BaseResponse<>(manageService.getApplicationStatusByCursor(authInfo, track, cursor, size));
+        }
         Pageable pageable = PageRequest.of(page, size);
         return new BaseResponse<>(manageService.getApplicationStatus(authInfo, track, pageable));
     }
@@ -217,4 +233,48 @@ public class ManageController {
                 manageService.restoreDocs(authInfo, request.getJoinerIds())
         );
     }
+
+    @Operation(summary = "지원서 파일로 한꺼번에 불러오기", description = "한 줄에 지원서 JSON 하나씩 있는 파일을 받습니다. notify=false면 Google Docs 업로드와 접수 메일을 생략합니다.")
+    @PostMapping(value = "/apply/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public BaseResponse<ImportApplicantsResponse> importApplicants(
+            @Auth AuthInfo authInfo,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(value = "notify", required = false, defaultValue = "false") boolean notify) {
+        return new BaseResponse<>(ErrorCode.CREATED, applicantImportService.importApplicants(authInfo, file, notify));
+    }
+
+    @Operation(summary = "Google Docs 내보내기 실패 서류 다시 올리기")
+    @PostMapping("/apply/docs/export/retry")
+    public BaseResponse<String> retryDocsExport(@Auth AuthInfo authInfo) {
+        return new BaseResponse<>(manageService.retryDocsExport(authInfo) + "건의 서류를 Google Docs 업로드 대기열에 다시 등록했습니다.");
+    }
+
+    @Operation(summary = "서류 결과 안내 메일 보내기", description = "합격/불합격 발송 작업을 등록하고 작업 진행 상황을 반환합니다.")
+    @PostMapping("/docs/result/mail")
+    public BaseResponse<List<MailCampaignResponse>> notifyDocsResults(@Auth AuthInfo authInfo) {
+        return new BaseResponse<>(ErrorCode.CREATED, resultNotificationService.notifyDocsResults(authInfo));
+    }
+
+    @Operation(summary = "면접 결과 안내 메일 보내기", description = "서류 합격자에게 최종 합격/불합격 발송 작업을 등록하고 작업 진행 상황을 반환합니다.")
+    @PostMapping("/interview/result/mail")
+    public BaseResponse<List<MailCampaignResponse>> notifyInterviewResults(@Auth AuthInfo authInfo) {
+        return new BaseResponse<>(ErrorCode.CREATED, resultNotificationService.notifyInterviewResults(authInfo));
+    }
+
+    @Operation(summary = "메일 템플릿 전체 조회")
+    @GetMapping("/mail/templates")
+    @ResponseStatus(HttpStatus.OK)
+    public BaseResponse<List<MailTemplateResponse>> getMailTemplates(@Auth AuthInfo authInfo) {
+        return new BaseResponse<>(mailTemplateService.getTemplates(authInfo));
+    }
+
+    @Operation(summary = "메일 템플릿 수정하기", description = "본문에 {{name}}, {{applicationId}}, {{track}} 변수를 쓸 수 있습니다.")
+    @PutMapping("/mail/templates/{code}")
+    @ResponseStatus(HttpStatus.OK)
+    public BaseResponse<MailTemplateResponse> updateMailTemplate(
+            @Auth AuthInfo authInfo,
+            @PathVariable("code") String code,
+            @RequestBody @Valid MailTemplateRequest request) {
+        return new BaseResponse<>(mailTemplateService.updateTemplate(authInfo, code, request));
+    }
 }
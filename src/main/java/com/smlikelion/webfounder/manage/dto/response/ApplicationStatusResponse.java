@@ -14,4 +14,6 @@ public class ApplicationStatusResponse {
     private List<ApplicationDocumentPreview> applicationDocumentPreviewList;
     private int currentPage;
     private int totalPages;
+    // 커서 페이지 조회 시 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
 }
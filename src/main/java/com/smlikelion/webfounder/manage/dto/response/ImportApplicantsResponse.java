@@ -0,0 +1,21 @@
+package com.smlikelion.webfounder.manage.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ImportApplicantsResponse {
+    private final int requested;
+    private final int imported;
+    // 형식 오류, 학번 중복 등으로 건너뛴 줄 번호 (1부터)
+    private final List<Integer> failedLines;
+
+    @Builder
+    public ImportApplicantsResponse(int requested, int imported, List<Integer> failedLines){
+        this.requested = requested;
+        this.imported = imported;
+        this.failedLines = failedLines;
+    }
+}
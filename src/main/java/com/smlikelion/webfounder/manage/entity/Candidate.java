@@ -5,18 +5,27 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
 @Entity
-@Table(name = "candidate")
+@Table(name = "candidate",
+        indexes = @Index(name = "uk_candidate_joiner_id", columnList = "joiner_id", unique = true))
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class Candidate extends DateEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidate_seq")
+    @GenericGenerator(name = "candidate_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "candidate_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
     @Column(name = "candidate_id")
     private Long candidateId;
 
@@ -0,0 +1,5 @@
+package com.smlikelion.webfounder.manage.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) { super(message); }
+}
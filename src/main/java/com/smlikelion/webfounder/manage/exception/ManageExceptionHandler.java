@@ -83,5 +83,12 @@ public class ManageExceptionHandler {
         return new BaseResponse<>(ErrorCode.DELETE_ENTITY_ERROR);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public BaseResponse<?> handleInvalidCursorException(InvalidCursorException e, HttpServletRequest request) {
+        log.warn("MANAGE-011> 요청 URI: " + request.getRequestURI() + ", 에러메세지: " + e.getMessage());
+        return new BaseResponse<>(ErrorCode.INVALID_CURSOR_ERROR);
+    }
+
 
 }
@@ -1,10 +1,12 @@
 package com.smlikelion.webfounder.manage.repository;
 
 import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.Track;
 import com.smlikelion.webfounder.manage.entity.Candidate;
 import com.smlikelion.webfounder.manage.entity.Docs;
 import com.smlikelion.webfounder.manage.entity.Interview;
 import java.util.Collection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,8 +24,45 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     List<Candidate> findAllByDocsAndInterview(Docs docs, Interview interview);
     Candidate findByJoinerAndDocs(Joiner joiner, Docs docs);
     Candidate findByJoinerAndInterview(Joiner joiner, Interview interview);
-    @Query("SELECT j, c FROM Joiner j JOIN Candidate c ON j = c.joiner WHERE c.docs = ?1")
-    List<Object[]> findAllJoinerAndCandidateByDocs(Docs docs);
+
+    // 합격자 목록: 보관 제외, 서류/면접 결과와 트랙(null이면 전체)을 SQL에서 거르고 목록 컬럼만 조회
+    @Query("select j.id as joinerId, j.name as name, j.phoneNum as phoneNum, j.studentId as studentId, " +
+            "j.track as track, c.interviewTime as interviewTime, j.createdAt as createdAt " +
+            "from Candidate c join c.joiner j " +
+            "where c.docs = :docs and (:interview is null or c.interview = :interview) " +
+            "and (:track is null or j.track = :track) and j.stashed = false " +
+            "order by j.id asc")
+    List<PassListRow> findPassList(@Param("docs") Docs docs, @Param("interview") Interview interview,
+                                   @Param("track") Track track);
+
+    // 합격/불합격 일괄 처리: 요청 id 중 지원서가 있는 joinerId
+    @Query("select c.joiner.id from Candidate c where c.joiner.id in :joinerIds")
+    List<Long> findJoinerIdsByJoinerIdIn(@Param("joinerIds") Collection<Long> joinerIds);
+
+    // 요청 id 중 해당 서류 결과인 joinerId (면접 합격 처리 시 서류 불합격자 확인)
+    @Query("select c.joiner.id from Candidate c where c.joiner.id in :joinerIds and c.docs = :docs")
+    List<Long> findJoinerIdsByJoinerIdInAndDocs(@Param("joinerIds") Collection<Long> joinerIds, @Param("docs") Docs docs);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Candidate c set c.docs = :docs where c.joiner.id in :joinerIds")
+    int updateDocsByJoinerIds(@Param("joinerIds") Collection<Long> joinerIds, @Param("docs") Docs docs);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Candidate c set c.interview = :interview where c.joiner.id in :joinerIds")
+    int updateInterviewByJoinerIds(@Param("joinerIds") Collection<Long> joinerIds, @Param("interview") Interview interview);
+
+    // 결과 안내 메일 대상: joinerId 기준 keyset 페이지네이션 (afterId 다음부터 pageable 크기만큼)
+    @Query("select j.id as joinerId, j.name as name, j.email as email, j.track as track, " +
+            "c.docs as docs, c.interview as interview " +
+            "from Candidate c join c.joiner j where j.id > :afterId and j.stashed = false order by j.id asc")
+    List<ResultMailTarget> findResultMailTargets(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select j.id as joinerId, j.name as name, j.email as email, j.track as track, " +
+            "c.docs as docs, c.interview as interview " +
+            "from Candidate c join c.joiner j where c.docs = :docs and j.id > :afterId and j.stashed = false order by j.id asc")
+    List<ResultMailTarget> findResultMailTargetsByDocs(@Param("docs") Docs docs,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from Candidate c where c.joiner.id in :joinerIds") // Joiner의 필드명이 id여야 함(= getId)
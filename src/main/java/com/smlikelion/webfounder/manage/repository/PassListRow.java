@@ -0,0 +1,16 @@
+package com.smlikelion.webfounder.manage.repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+
+import java.time.LocalDateTime;
+
+// 서류/면접 합격자 목록 행 (답변 JSON 등은 읽지 않고 화면에 보여주는 컬럼만 조회)
+public interface PassListRow {
+    Long getJoinerId();
+    String getName();
+    String getPhoneNum();
+    String getStudentId();
+    Track getTrack();
+    String getInterviewTime();
+    LocalDateTime getCreatedAt();
+}
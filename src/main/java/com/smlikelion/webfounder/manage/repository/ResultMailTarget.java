@@ -0,0 +1,15 @@
+package com.smlikelion.webfounder.manage.repository;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.manage.entity.Docs;
+import com.smlikelion.webfounder.manage.entity.Interview;
+
+// 결과 안내 메일 대상 (엔티티 대신 필요한 컬럼만 조회)
+public interface ResultMailTarget {
+    Long getJoinerId();
+    String getName();
+    String getEmail();
+    Track getTrack();
+    Docs getDocs();
+    Interview getInterview();
+}
@@ -0,0 +1,103 @@
+package com.smlikelion.webfounder.manage.service;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 트랙별 지원자 수 캐시 (지원현황 화면용).
+ * 트랙 x 보관 여부별 개수를 group by 쿼리 한 번으로 읽어 ttl-ms 동안 재사용한다.
+ * 이 서버에서 지원서가 추가/보관/삭제되면 커밋 후 바로 비우고, 다른 서버의 변경은 ttl-ms 안에 반영된다.
+ */
+@Component
+public class ApplicantCountCache {
+
+    private final JoinerRepository joinerRepository;
+    private final long ttlMillis;
+
+    private volatile Snapshot snapshot;
+
+    public ApplicantCountCache(JoinerRepository joinerRepository,
+                               @Value("${manage.applicant-count.ttl-ms:10000}") long ttlMillis) {
+        this.joinerRepository = joinerRepository;
+        this.ttlMillis = Math.max(0, ttlMillis);
+    }
+
+    // 보관된 지원서까지 포함한 트랙별 지원자 수 (ALL은 기획·디자인 + 프론트엔드 + 백엔드)
+    public long countByTrack(Track track) {
+        Snapshot current = current();
+        if (track == Track.ALL) {
+            return current.total(Track.PLANDESIGN) + current.total(Track.FRONTEND) + current.total(Track.BACKEND);
+        }
+        return current.total(track);
+    }
+
+    // 보관되지 않은 지원서 수 (목록 페이지 수 계산용, ALL은 전체 트랙)
+    public long countActiveByTrack(Track track) {
+        Snapshot current = current();
+        if (track == Track.ALL) {
+            return current.active.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return current.active.getOrDefault(track, 0L);
+    }
+
+    public void evict() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || System.currentTimeMillis() - current.loadedAt > ttlMillis) {
+            current = load();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Map<Track, Long> total = new EnumMap<>(Track.class);
+        Map<Track, Long> active = new EnumMap<>(Track.class);
+        // [track, stashed, count]
+        for (Object[] row : joinerRepository.countGroupByTrackAndStashed()) {
+            if (row[0] == null) continue;
+            Track track = (Track) row[0];
+            long count = ((Number) row[2]).longValue();
+            total.merge(track, count, Long::sum);
+            if (!(Boolean) row[1]) {
+                active.merge(track, count, Long::sum);
+            }
+        }
+        return new Snapshot(total, active, System.currentTimeMillis());
+    }
+
+    private static class Snapshot {
+        private final Map<Track, Long> total;
+        private final Map<Track, Long> active;
+        private final long loadedAt;
+
+        private Snapshot(Map<Track, Long> total, Map<Track, Long> active, long loadedAt) {
+            this.total = total;
+            this.active = active;
+            this.loadedAt = loadedAt;
+        }
+
+        private long total(Track track) {
+            return total.getOrDefault(track, 0L);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.smlikelion.webfounder.manage.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smlikelion.webfounder.Recruit.Dto.Request.RecruitmentRequest;
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.JoinerAnswer;
+import com.smlikelion.webfounder.Recruit.Entity.OutboxType;
+import com.smlikelion.webfounder.Recruit.Entity.RecruitOutbox;
+import com.smlikelion.webfounder.Recruit.Entity.SendStatus;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerAnswerRepository;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.Recruit.Repository.RecruitOutboxRepository;
+import com.smlikelion.webfounder.admin.entity.Role;
+import com.smlikelion.webfounder.admin.exception.UnauthorizedRoleException;
+import com.smlikelion.webfounder.manage.dto.response.ImportApplicantsResponse;
+import com.smlikelion.webfounder.manage.entity.Candidate;
+import com.smlikelion.webfounder.manage.repository.CandidateRepository;
+import com.smlikelion.webfounder.security.AuthInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 지원서를 파일에서 한꺼번에 불러온다 (지난 기수 이관, 부하 테스트용 데이터 생성).
+ * 파일은 한 줄에 지원서 요청(RecruitmentRequest) JSON 하나인 형식이고, batch-size줄씩 읽어서
+ * 한 트랜잭션에 저장하므로 Hibernate JDBC 배치(JpaBatchConfig)로 insert가 묶여서 나간다.
+ * 잘못된 줄과 학번이 겹치는 줄은 건너뛰고 줄 번호를 돌려준다.
+ */
+@Slf4j
+@Service
+public class ApplicantImportService {
+
+    private final JoinerRepository joinerRepository;
+    private final JoinerAnswerRepository joinerAnswerRepository;
+    private final CandidateRepository candidateRepository;
+    private final RecruitOutboxRepository recruitOutboxRepository;
+    private final ApplicantCountCache applicantCountCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final String documentId;
+    private final int batchSize;
+
+    public ApplicantImportService(JoinerRepository joinerRepository,
+                                  JoinerAnswerRepository joinerAnswerRepository,
+                                  CandidateRepository candidateRepository,
+                                  RecruitOutboxRepository recruitOutboxRepository,
+                                  ApplicantCountCache applicantCountCache,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  @Value("${GOOGLE_DOCS_DOCUMENT_ID}") String documentId,
+                                  @Value("${recruit.import.batch-size:500}") int batchSize) {
+        this.joinerRepository = joinerRepository;
+        this.joinerAnswerRepository = joinerAnswerRepository;
+        this.candidateRepository = candidateRepository;
+        this.recruitOutboxRepository = recruitOutboxRepository;
+        this.applicantCountCache = applicantCountCache;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.documentId = documentId;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * notify가 false면 Google Docs 업로드와 접수 메일을 생략한다 (부하 테스트 데이터에 메일이 나가지 않도록).
+     * true면 일반 지원과 같이 후속 작업(RecruitOutbox)을 함께 기록한다.
+     */
+    public ImportApplicantsResponse importApplicants(AuthInfo authInfo, MultipartFile file, boolean notify) {
+        if (!hasValidRoles(authInfo, List.of(Role.SUPERUSER))) {
+            throw new UnauthorizedRoleException("접근 권한이 없습니다.");
+        }
+
+        int requested = 0;
+        int imported = 0;
+        List<Integer> failedLines = new ArrayList<>();
+        Set<String> seenStudentIds = new HashSet<>();
+        Map<Integer, Joiner> chunk = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+                requested++;
+
+                Joiner joiner = parse(line);
+                if (joiner == null || !seenStudentIds.add(joiner.getStudentId())) {
+                    failedLines.add(lineNumber);
+                    continue;
+                }
+                chunk.put(lineNumber, joiner);
+
+                if (chunk.size() >= batchSize) {
+                    imported += saveChunk(chunk, notify, failedLines);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += saveChunk(chunk, notify, failedLines);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("지원서 파일을 읽을 수 없습니다.", e);
+        }
+
+        if (imported > 0) {
+            applicantCountCache.evict();
+        }
+        Collections.sort(failedLines);
+        log.info("지원서 불러오기 완료 - 요청: {}건, 저장: {}건, 실패: {}건", requested, imported, failedLines.size());
+        return ImportApplicantsResponse.builder()
+                .requested(requested)
+                .imported(imported)
+                .failedLines(failedLines)
+                .build();
+    }
+
+    // 형식이 잘못되었거나 필수 값이 빠진 줄이면 null
+    private Joiner parse(String line) {
+        try {
+            RecruitmentRequest request = objectMapper.readValue(line, RecruitmentRequest.class);
+            if (request.getStudentInfo() == null || request.getAnswerListRequest() == null
+                    || !validator.validate(request).isEmpty()) {
+                return null;
+            }
+            Joiner joiner = request.toJoiner();
+            joiner.setAnswerList(request.getAnswerListRequest().toAnswerList());
+            joiner.setStashed(false);
+            return joiner.getStudentId() == null ? null : joiner;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // 이미 DB에 있는 학번은 빼고 한 트랜잭션에 저장, 저장한 건수를 반환
+    private int saveChunk(Map<Integer, Joiner> chunk, boolean notify, List<Integer> failedLines) {
+        Set<String> existing = new HashSet<>(joinerRepository.findStudentIdsByStudentIdIn(
+                chunk.values().stream().map(Joiner::getStudentId).collect(Collectors.toList())));
+
+        List<Joiner> joiners = new ArrayList<>(chunk.size());
+        chunk.forEach((lineNumber, joiner) -> {
+            if (existing.contains(joiner.getStudentId())) {
+                failedLines.add(lineNumber);
+            } else {
+                joiners.add(joiner);
+            }
+        });
+        if (joiners.isEmpty()) return 0;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!notify) {
+                joiners.forEach(joiner -> {
+                    joiner.setGoogleDocsStatus(SendStatus.SKIPPED);
+                    joiner.setMailStatus(SendStatus.SKIPPED);
+                });
+            }
+
+            // 지원서는 Candidate 저장 시 함께 저장됨 (cascade)
+            candidateRepository.saveAll(joiners.stream()
+                    .map(joiner -> new Candidate(joiner, "REJECT", "INTERVIEW_REJECT"))
+                    .collect(Collectors.toList()));
+            joinerAnswerRepository.saveAll(joiners.stream()
+                    .map(joiner -> JoinerAnswer.of(joiner.getId(), joiner.getAnswerList()))
+                    .collect(Collectors.toList()));
+
+            if (notify) {
+                List<RecruitOutbox> outbox = new ArrayList<>(joiners.size() * 2);
+                for (Joiner joiner : joiners) {
+                    outbox.add(RecruitOutbox.builder().joinerId(joiner.getId()).type(OutboxType.DOCS_EXPORT).documentId(documentId).build());
+                    outbox.add(RecruitOutbox.builder().joinerId(joiner.getId()).type(OutboxType.APPLY_MAIL).email(joiner.getEmail()).build());
+                }
+                recruitOutboxRepository.saveAll(outbox);
+            }
+        });
+        return joiners.size();
+    }
+
+    private boolean hasValidRoles(AuthInfo authInfo, List<Role> allowedRoles) {
+        return authInfo.getRoles().stream().anyMatch(allowedRoles::contains);
+    }
+}
@@ -5,6 +5,7 @@ import com.smlikelion.webfounder.Recruit.Entity.Track;
 import com.smlikelion.webfounder.admin.entity.Role;
 import com.smlikelion.webfounder.admin.exception.UnauthorizedRoleException;
 import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsExportQueue;
 import com.smlikelion.webfounder.manage.dto.request.DocsInterPassRequestDto;
 import com.smlikelion.webfounder.manage.dto.request.DocsQuestRequest;
 import com.smlikelion.webfounder.manage.dto.request.DocsQuestUpdateRequest;
@@ -22,13 +23,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,10 +40,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ManageService {
 
+    // 커서 없이 요청한 첫 페이지의 기준 시각 (모든 지원서가 이보다 뒤)
+    private static final LocalDateTime FIRST_CURSOR_TIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final DateTimeFormatter SUBMISSION_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     private final QuestionRepository questionRepository;
     private final CandidateRepository candidateRepository;
     private final JoinerRepository joinerRepository;
+    private final DocsExportQueue docsExportQueue;
+    private final ApplicantCountCache applicantCountCache;
+    private final QuestionCache questionCache;
 
+    @Transactional
     public DocsQuestResponse registerQuestion(AuthInfo authInfo, DocsQuestRequest request) {
         if(!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
             throw new UnauthorizedRoleException("접근 권한이 없습니다.");
@@ -58,10 +70,12 @@ public class ManageService {
                         .maxLength(request.getMaxLength())
                         .build()
         );
+        questionCache.evictAll();
 
         return mapQuestionToDocsQuestResponse(question);
     }
 
+    @Transactional
     public DocsQuestResponse updateQuestion(AuthInfo authInfo, Long id, DocsQuestRequest request) {
         if(!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
             throw new UnauthorizedRoleException("접근 권한이 없습니다.");
@@ -82,10 +96,12 @@ public class ManageService {
         question.setMaxLength(request.getMaxLength());
 
         question = questionRepository.save(question);
+        questionCache.evictAll();
 
         return mapQuestionToDocsQuestResponse(question);
     }
 
+    @Transactional
     public List<DocsQuestResponse> updateQuestions(AuthInfo authInfo, List<DocsQuestUpdateRequest> requests) {
         if(!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
             throw new UnauthorizedRoleException("접근 권한이 없습니다.");
@@ -111,10 +127,12 @@ public class ManageService {
             question = questionRepository.save(question);
             docsQuestResponseList.add(mapQuestionToDocsQuestResponse(question));
         }
+        questionCache.evictAll();
 
         return docsQuestResponseList;
     }
 
+    @Transactional
     public DocsQuestResponse deleteQuestion(AuthInfo authInfo, Long id) {
         if(!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
             throw new UnauthorizedRoleException("접근 권한이 없습니다.");
@@ -126,6 +144,7 @@ public class ManageService {
         validateCurrentYear(question.getYear());
 
         questionRepository.delete(question);
+        questionCache.evictAll();
 
         return mapQuestionToDocsQuestResponse(question);
     }
@@ -135,12 +154,7 @@ public class ManageService {
 
         Track requestedTrack = validateTrackName(track);
 
-        List<Question> questionList = questionRepository.findAllByYearAndTrack(year, requestedTrack);
-
-        if (questionList == null) {
-            questionList = Collections.emptyList();
-        }
-        return questionList.stream()
+        return questionCache.get(year, requestedTrack).stream()
                 .map(this::mapQuestionToDocsQuestResponse)
                 .collect(Collectors.toList());
     }
@@ -200,155 +214,82 @@ public class ManageService {
 
     }
 
+    @Transactional
     public List<Long> docsPass(DocsInterPassRequestDto requestDto){
-        List<Long> passedJoinerIds = new ArrayList<>();
-
-        // 요청 데이터가 하나라도 유효하지 않다면 에러 발생
-        for (Long joinerId : requestDto.getJoinerIds()) {
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
-        }
-
-        for(Long joinerId : requestDto.getJoinerIds()){
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
-            candidate.setDocs(Docs.PASS);
-            candidateRepository.save(candidate);
-            passedJoinerIds.add(joinerId);
-        }
-
-        return passedJoinerIds;
+        return decide(requestDto.getJoinerIds(), false,
+                joinerIds -> candidateRepository.updateDocsByJoinerIds(joinerIds, Docs.PASS));
     }
 
+    @Transactional
     public List<Long> docsFail(DocsInterPassRequestDto requestDto){
-        List<Long> failedJoinerIds = new ArrayList<>();
-
-        // 요청 데이터가 하나라도 유효하지 않다면 에러 발생
-        for (Long joinerId : requestDto.getJoinerIds()) {
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
-        }
-
-        for(Long joinerId : requestDto.getJoinerIds()){
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
-            candidate.setDocs(Docs.REJECT);
-            candidateRepository.save(candidate);
-            failedJoinerIds.add(joinerId);
-        }
-
-        return failedJoinerIds;
+        return decide(requestDto.getJoinerIds(), false,
+                joinerIds -> candidateRepository.updateDocsByJoinerIds(joinerIds, Docs.REJECT));
     }
 
+    @Transactional
     public List<Long> interviewPass(DocsInterPassRequestDto requestDto){
-        List<Long> passedJoinerIds = new ArrayList<>();
-
-        // 요청 데이터가 하나라도 유효하지 않다면 에러 발생
-        for (Long joinerId : requestDto.getJoinerIds()) {
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
-
-            // 요청 데이터에 서류 불합격자가 있다면 에러 발생
-            validateInterviewPassJoiner(candidate);
-        }
-
-        for (Long joinerId : requestDto.getJoinerIds()) {
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
-
-            candidate.setInterview(Interview.PASS);
-            candidateRepository.save(candidate);
-            passedJoinerIds.add(joinerId);
-        }
-
-        return passedJoinerIds;
+        // 요청 데이터에 서류 불합격자가 있다면 에러 발생
+        return decide(requestDto.getJoinerIds(), true,
+                joinerIds -> candidateRepository.updateInterviewByJoinerIds(joinerIds, Interview.PASS));
     }
 
-    private void validateInterviewPassJoiner(Candidate candidate) {
-        if(candidate.getDocs().equals(Docs.REJECT)){
-            throw new InvalidInterviewPassException(candidate.getJoiner().getId()+"번 지원자는 서류 불합격자 입니다.");
-        }
+    @Transactional
+    public List<Long> interviewFail(DocsInterPassRequestDto requestDto){
+        return decide(requestDto.getJoinerIds(), false,
+                joinerIds -> candidateRepository.updateInterviewByJoinerIds(joinerIds, Interview.INTERVIEW_REJECT));
     }
 
-    public List<Long> interviewFail(DocsInterPassRequestDto requestDto){
-        List<Long> failedJoinerIds = new ArrayList<>();
-
-        // 요청 데이터가 하나라도 유효하지 않다면 에러 발생
-        for (Long joinerId : requestDto.getJoinerIds()) {
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
+    /**
+     * 합격/불합격 일괄 처리. 요청 데이터가 하나라도 유효하지 않다면 아무것도 바꾸지 않고 에러 발생
+     * - 지원서 존재 여부: IN 조회 한 번 (없는 경우에만 joiner 존재 여부를 한 번 더 조회해서 에러 구분)
+     * - 서류 불합격자 포함 여부: IN 조회 한 번 (면접 합격 처리 시)
+     * - 상태 변경: UPDATE ... WHERE joiner_id IN (...) 한 번 (중복 id는 한 번만 갱신)
+     */
+    private List<Long> decide(List<Long> requestedJoinerIds, boolean requireDocsPass, Function<List<Long>, Integer> update) {
+        List<Long> joinerIds = requestedJoinerIds.stream().distinct().collect(Collectors.toList());
+        if (joinerIds.isEmpty()) return requestedJoinerIds;
+
+        Set<Long> candidateJoinerIds = new HashSet<>(candidateRepository.findJoinerIdsByJoinerIdIn(joinerIds));
+        if (candidateJoinerIds.size() < joinerIds.size()) {
+            List<Long> missing = joinerIds.stream()
+                    .filter(joinerId -> !candidateJoinerIds.contains(joinerId))
+                    .collect(Collectors.toList());
+            Set<Long> existingJoinerIds = new HashSet<>(joinerRepository.findIdsByIdIn(missing));
+            for (Long joinerId : missing) {
+                if (!existingJoinerIds.contains(joinerId)) {
+                    throw new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다");
+                }
+            }
+            throw new NotFoundCandidateException(missing.get(0)+"번 candidate는 존재하지 않습니다");
         }
 
-        for(Long joinerId : requestDto.getJoinerIds()){
-            Joiner joiner = joinerRepository.findById(joinerId).orElseThrow(
-                    () -> new NotFoundJoinerException(joinerId+"번 joiner는 존재하지 않습니다")
-            );
-            Candidate candidate = candidateRepository.findByJoiner(joiner).orElseThrow(
-                    () -> new NotFoundCandidateException(joinerId+"번 candidate는 존재하지 않습니다")
-            );
-            candidate.setInterview(Interview.INTERVIEW_REJECT);
-            candidateRepository.save(candidate);
-            failedJoinerIds.add(joinerId);
+        if (requireDocsPass) {
+            List<Long> docsRejected = candidateRepository.findJoinerIdsByJoinerIdInAndDocs(joinerIds, Docs.REJECT);
+            if (!docsRejected.isEmpty()) {
+                throw new InvalidInterviewPassException(docsRejected.get(0)+"번 지원자는 서류 불합격자 입니다.");
+            }
         }
 
-        return failedJoinerIds;
+        int updated = update.apply(joinerIds);
+        log.info("지원자 {}명 결과 변경 (요청 {}건)", updated, requestedJoinerIds.size());
+        // 응답은 예전처럼 요청한 id를 그대로 돌려준다 (중복 포함)
+        return requestedJoinerIds;
     }
 
     public List<DocsPassResponseDto> docsPassList(String track){
         Track requestedTrack = validateTrackName(track);
 
-        List<DocsPassResponseDto> result = new ArrayList<>();
-        List<Object[]> joinerAndCandidateList = candidateRepository.findAllJoinerAndCandidateByDocs(Docs.PASS).stream()
-                .filter(objects -> !((Joiner)objects[0]).isStashed())
+        return candidateRepository.findPassList(Docs.PASS, null, trackFilter(requestedTrack)).stream()
+                .map(row -> DocsPassResponseDto.builder()
+                        .joinerId(row.getJoinerId())
+                        .name(row.getName())
+                        .phoneNum(row.getPhoneNum())
+                        .studentID(row.getStudentId())
+                        .track(row.getTrack().getTrackName())
+                        .interviewTime(row.getInterviewTime())
+                        .submissionTime(row.getCreatedAt().format(SUBMISSION_TIME_FORMAT))
+                        .build())
                 .collect(Collectors.toList());
-
-        if(track.equals("all")){
-            for (Object[] objects : joinerAndCandidateList) {
-                Joiner joiner = (Joiner) objects[0];
-                Candidate candidate = (Candidate) objects[1];
-                result.add(mapJoinerAndCandidateToResponse(joiner, candidate));
-            }
-        }else {
-            for (Object[] objects : joinerAndCandidateList) {
-                Joiner joiner = (Joiner) objects[0];
-                Candidate candidate = (Candidate) objects[1];
-
-                // 요청된 트랙과 joiner의 트랙이 일치하는 경우에만 결과를 추가
-                if (joiner.getTrack().equals(requestedTrack)) {
-                    DocsPassResponseDto dto = mapJoinerAndCandidateToResponse(joiner, candidate);
-                    result.add(dto);
-                }
-            }
-        }
-        return result;
     }
 
     private void validateJoinerList(List<Joiner> joinerList){
@@ -357,63 +298,25 @@ public class ManageService {
         }
     }
 
-    private InterviewPassResponseDto mapJoinerToResponse(Joiner joiner){
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-        return InterviewPassResponseDto.builder()
-                .joinerId(joiner.getId())
-                .name(joiner.getName())
-                .phoneNum(joiner.getPhoneNum())
-                .studentID(joiner.getStudentId())
-                .track(joiner.getTrack().getTrackName())
-                .submissionTime(joiner.getCreatedAt().format(formatter))
-                .build();
-    }
-
     public List<InterviewPassResponseDto> interviewPassList(String track){
         Track requestedTrack = validateTrackName(track);
 
-        // Candidate 테이블에서 Docs 값이 Pass이고 Interview 값이 PASS인 candidateList 추출
-        List<Joiner> joinerList = joinerRepository.findAllById(
-                candidateRepository.findAllByDocsAndInterview(Docs.PASS,Interview.PASS).stream()
-                        .map(candidate -> candidate.getJoiner().getId())
-                        .collect(Collectors.toSet())
-        );
-
-        //validateJoinerList(joinerList);
-        if (joinerList == null) {
-           return Collections.emptyList();
-        }
-
-        joinerList = joinerList.stream()
-                .filter(joiner -> !joiner.isStashed())
+        // 서류 합격 + 면접 합격
+        return candidateRepository.findPassList(Docs.PASS, Interview.PASS, trackFilter(requestedTrack)).stream()
+                .map(row -> InterviewPassResponseDto.builder()
+                        .joinerId(row.getJoinerId())
+                        .name(row.getName())
+                        .phoneNum(row.getPhoneNum())
+                        .studentID(row.getStudentId())
+                        .track(row.getTrack().getTrackName())
+                        .submissionTime(row.getCreatedAt().format(SUBMISSION_TIME_FORMAT))
+                        .build())
                 .collect(Collectors.toList());
-
-        if(track.equals("all")){
-            return joinerList.stream()
-                    .map(this::mapJoinerToResponse)
-                    .collect(Collectors.toList());
-        }else {
-            // 특정 track에 해당하는 Joiner만 필터링하여 최종 결과 매핑
-            return joinerList.stream()
-                    .filter(joiner -> joiner.getTrack().equals(requestedTrack))
-                    .map(this::mapJoinerToResponse)
-                    .collect(Collectors.toList());
-        }
     }
 
-    private DocsPassResponseDto mapJoinerAndCandidateToResponse(Joiner joiner, Candidate candidate){
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-        return DocsPassResponseDto.builder()
-                .joinerId(joiner.getId())
-                .name(joiner.getName())
-                .phoneNum(joiner.getPhoneNum())
-                .studentID(joiner.getStudentId())
-                .track(joiner.getTrack().getTrackName())
-                .interviewTime(candidate.getInterviewTime())
-                .submissionTime(joiner.getCreatedAt().format(formatter))
-                .build();
+    // 전체(ALL) 조회는 트랙 조건 없이
+    private Track trackFilter(Track track) {
+        return track == Track.ALL ? null : track;
     }
 
     public String setInterviewTime(InterviewTimeRequest requestDto) {
@@ -435,16 +338,6 @@ public class ManageService {
             throw new UnauthorizedRoleException("접근 권한이 없습니다.");
         }
 
-        //트랙별 지원자수 조회
-        Long countByTrackPM = joinerRepository.countByTrack(Track.PLANDESIGN);
-        Long countByTrackFE = joinerRepository.countByTrack(Track.FRONTEND);
-        Long countByTrackBE = joinerRepository.countByTrack(Track.BACKEND);
-        Long countByTrackALL = countByTrackPM + countByTrackFE + countByTrackBE;
-
-        ApplicationStatusByTrack applicationStatusByTrack = new ApplicationStatusByTrack(
-                countByTrackALL, countByTrackPM, countByTrackFE, countByTrackBE
-        );
-
         Track requestedTrack = validateTrackName(track);
         Page<Joiner> joinerPage = new PageImpl<>(List.of());
         if(requestedTrack.equals(Track.ALL)){
@@ -459,13 +352,72 @@ public class ManageService {
                 .collect(Collectors.toList());
 
         return ApplicationStatusResponse.builder()
-                .applicationStatusByTrack(applicationStatusByTrack)
+                .applicationStatusByTrack(getApplicationStatusByTrack())
                 .applicationDocumentPreviewList(applicationDocumentPreviewList)
                 .currentPage(joinerPage.getNumber())
                 .totalPages(joinerPage.getTotalPages())
                 .build();
     }
 
+    /**
+     * 지원현황 커서 페이지 조회: (제출 시각, 지원서 id) 순서로 cursor 다음 지원서부터 size건.
+     * OFFSET과 count 쿼리 없이 (stashed, track, created_at) 인덱스에서 바로 이어 읽으므로 뒤 페이지도 첫 페이지와 같은 속도.
+     * cursor가 비어 있으면 첫 페이지, 응답의 nextCursor를 다음 요청에 그대로 넘긴다 (currentPage는 쓰지 않음).
+     */
+    public ApplicationStatusResponse getApplicationStatusByCursor(AuthInfo authInfo, String track, String cursor, int size) {
+        if(!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
+            throw new UnauthorizedRoleException("접근 권한이 없습니다.");
+        }
+
+        Track requestedTrack = validateTrackName(track);
+        LocalDateTime afterCreatedAt = FIRST_CURSOR_TIME;
+        Long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                afterCreatedAt = LocalDateTime.parse(cursor.substring(0, separator));
+                afterId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException("올바르지 않은 커서입니다: " + cursor);
+            }
+        }
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽음
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Joiner> joiners = requestedTrack.equals(Track.ALL)
+                ? joinerRepository.findActiveAfter(afterCreatedAt, afterId, limit)
+                : joinerRepository.findActiveAfterByTrack(requestedTrack, afterCreatedAt, afterId, limit);
+
+        String nextCursor = null;
+        if (joiners.size() > size) {
+            joiners = joiners.subList(0, size);
+            Joiner last = joiners.get(size - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getId();
+        }
+
+        List<ApplicationDocumentPreview> applicationDocumentPreviewList = joiners.stream()
+                .map(this::mapJoinerToApplicationDocumentPreview)
+                .collect(Collectors.toList());
+
+        long activeCount = applicantCountCache.countActiveByTrack(requestedTrack);
+        return ApplicationStatusResponse.builder()
+                .applicationStatusByTrack(getApplicationStatusByTrack())
+                .applicationDocumentPreviewList(applicationDocumentPreviewList)
+                .totalPages((int) ((activeCount + size - 1) / size))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    //트랙별 지원자수 조회 (캐시)
+    private ApplicationStatusByTrack getApplicationStatusByTrack() {
+        return new ApplicationStatusByTrack(
+                applicantCountCache.countByTrack(Track.ALL),
+                applicantCountCache.countByTrack(Track.PLANDESIGN),
+                applicantCountCache.countByTrack(Track.FRONTEND),
+                applicantCountCache.countByTrack(Track.BACKEND)
+        );
+    }
+
     private ApplicationDocumentPreview mapJoinerToApplicationDocumentPreview(Joiner joiner) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
@@ -493,29 +445,7 @@ public class ManageService {
                     .build();
         }
 
-        int requested = joinerIds.size();
-        int stashed = 0;
-        List<Long> failed = new ArrayList<>();
-
-        for(Long joinerId : joinerIds){
-            try{
-                Joiner joiner = joinerRepository.findById(joinerId)
-                        .orElseThrow(() -> new NotFoundJoinerException("해당 ID의 Joiner를 찾을 수 없습니다."));
-
-                joiner.setStashed(true);
-                joinerRepository.save(joiner);
-                stashed++;
-
-            } catch (Exception e) {
-                failed.add(joinerId);
-            }
-        }
-
-        return StashDocsResponse.builder()
-                .requested(requested)
-                .stashed(stashed)
-                .failed(failed)
-                .build();
+        return updateStashed(joinerIds, true);
     }
 
     public ApplicationStatusResponse getStashApplications(AuthInfo authInfo, String track, Pageable pageable) {
@@ -558,28 +488,37 @@ public class ManageService {
                     .build();
         }
 
-        int requested = joinerIds.size();
-        int stashed = 0;
-        List<Long> failed = new ArrayList<>();
-
-        for(Long joinerId : joinerIds){
-            try{
-                Joiner joiner = joinerRepository.findById(joinerId)
-                        .orElseThrow(() -> new NotFoundJoinerException("해당 ID의 Joiner를 찾을 수 없습니다."));
-
-                joiner.setStashed(false);
-                joinerRepository.save(joiner);
-                stashed++;
+        return updateStashed(joinerIds, false);
+    }
 
-            } catch (Exception e) {
-                failed.add(joinerId);
-            }
+    /**
+     * 보관/복원 일괄 처리: 존재하는 id를 IN 조회 한 번으로 찾고 UPDATE 한 번으로 바꾼다.
+     * 없는 id는 요청 목록과의 차집합으로 failed에 담는다 (요청에 중복된 id는 요청한 횟수만큼 집계)
+     */
+    private StashDocsResponse updateStashed(List<Long> joinerIds, boolean stashed) {
+        List<Long> distinctIds = joinerIds.stream().distinct().collect(Collectors.toList());
+        Set<Long> found = new HashSet<>(joinerRepository.findIdsByIdIn(distinctIds));
+        if (!found.isEmpty()) {
+            joinerRepository.updateStashed(found, stashed);
+            applicantCountCache.evict();
         }
 
+        List<Long> failed = joinerIds.stream()
+                .filter(joinerId -> !found.contains(joinerId))
+                .collect(Collectors.toList());
+
         return StashDocsResponse.builder()
-                .requested(requested)
-                .stashed(stashed)
+                .requested(joinerIds.size())
+                .stashed(joinerIds.size() - failed.size())
                 .failed(failed)
                 .build();
     }
+
+    // Google Docs 내보내기에 실패한 지원서 다시 시도
+    public int retryDocsExport(AuthInfo authInfo) {
+        if(!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
+            throw new UnauthorizedRoleException("접근 권한이 없습니다.");
+        }
+        return docsExportQueue.retryFailed();
+    }
 }
@@ -0,0 +1,88 @@
+package com.smlikelion.webfounder.manage.service;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.manage.entity.Question;
+import com.smlikelion.webfounder.manage.repository.QuestionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (년도, 트랙)별 지원서 문항 캐시.
+ * 지원서 작성 화면의 문항 조회와 Google Docs 내보내기가 지원자마다 문항을 읽으므로 DB 대신 여기서 꺼낸다.
+ * 문항이 추가/수정/삭제되면 커밋 후 evictAll로 비우고, 다른 서버의 변경은 ttl-ms 안에 반영된다.
+ * 조회 결과는 question.cache.gets{result=hit|miss}로 기록한다.
+ */
+@Component
+public class QuestionCache {
+
+    private final QuestionRepository questionRepository;
+    private final long ttlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public QuestionCache(QuestionRepository questionRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${question.cache.ttl-ms:60000}") long ttlMillis) {
+        this.questionRepository = questionRepository;
+        this.ttlMillis = Math.max(0, ttlMillis);
+        this.hits = Counter.builder("question.cache.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("question.cache.gets").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("question.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    public List<Question> get(Long year, Track track) {
+        String key = year + ":" + track;
+        Entry entry = cache.get(key);
+        if (entry != null && !entry.isExpired()) {
+            hits.increment();
+            return entry.questions;
+        }
+        // 같은 키를 동시에 조회해도 DB는 한 번만 읽음
+        return cache.compute(key, (k, current) ->
+                current != null && !current.isExpired() ? current : load(year, track)).questions;
+    }
+
+    // 커밋 전에 비우면 그 사이 조회가 옛 문항을 다시 캐시에 올리므로 커밋 후에 비운다
+    public void evictAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.clear();
+                }
+            });
+        } else {
+            cache.clear();
+        }
+    }
+
+    private Entry load(Long year, Track track) {
+        misses.increment();
+        List<Question> questions = questionRepository.findAllByYearAndTrack(year, track);
+        return new Entry(questions == null ? List.of() : List.copyOf(questions), System.currentTimeMillis() + ttlMillis);
+    }
+
+    private static class Entry {
+        private final List<Question> questions;
+        private final long expiresAt;
+
+        private Entry(List<Question> questions, long expiresAt) {
+            this.questions = questions;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.smlikelion.webfounder.manage.service;
+
+import com.smlikelion.webfounder.Recruit.Dto.Response.MailCampaignResponse;
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaign;
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaignRecipient;
+import com.smlikelion.webfounder.Recruit.Entity.MailCampaignStatus;
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplateCode;
+import com.smlikelion.webfounder.Recruit.Repository.MailCampaignRecipientRepository;
+import com.smlikelion.webfounder.Recruit.Repository.MailCampaignRepository;
+import com.smlikelion.webfounder.Recruit.Service.MailService;
+import com.smlikelion.webfounder.admin.entity.Role;
+import com.smlikelion.webfounder.admin.exception.UnauthorizedRoleException;
+import com.smlikelion.webfounder.manage.entity.Docs;
+import com.smlikelion.webfounder.manage.entity.Interview;
+import com.smlikelion.webfounder.manage.repository.CandidateRepository;
+import com.smlikelion.webfounder.manage.repository.ResultMailTarget;
+import com.smlikelion.webfounder.security.AuthInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 서류/면접 결과 안내 메일을 결과별 발송 작업(MailCampaign)으로 등록한다.
+ * 지원서를 joinerId 기준 keyset 페이지로 필요한 컬럼만 읽어서 받는 사람 행으로 옮기므로,
+ * 지원자 수와 관계없이 한 번에 page-size건만 메모리에 올린다.
+ * 실제 발송은 MailCampaignSender가 SMTP 한도에 맞춰 나눠서 하고, 받는 사람별 결과도 거기서 남긴다.
+ */
+@Slf4j
+@Service
+public class ResultNotificationService {
+
+    private final CandidateRepository candidateRepository;
+    private final MailCampaignRepository mailCampaignRepository;
+    private final MailCampaignRecipientRepository mailCampaignRecipientRepository;
+    private final MailService mailService;
+    private final int pageSize;
+
+    public ResultNotificationService(CandidateRepository candidateRepository,
+                                     MailCampaignRepository mailCampaignRepository,
+                                     MailCampaignRecipientRepository mailCampaignRecipientRepository,
+                                     MailService mailService,
+                                     @Value("${mail.result.page-size:500}") int pageSize) {
+        this.candidateRepository = candidateRepository;
+        this.mailCampaignRepository = mailCampaignRepository;
+        this.mailCampaignRecipientRepository = mailCampaignRecipientRepository;
+        this.mailService = mailService;
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    // 서류 결과: 전체 지원자에게 합격/불합격 안내
+    public List<MailCampaignResponse> notifyDocsResults(AuthInfo authInfo) {
+        if (!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
+            throw new UnauthorizedRoleException("접근 권한이 없습니다.");
+        }
+
+        return enqueue(List.of(MailTemplateCode.DOCS_PASS, MailTemplateCode.DOCS_REJECT),
+                afterId -> candidateRepository.findResultMailTargets(afterId, PageRequest.of(0, pageSize)),
+                target -> target.getDocs() == Docs.PASS ? MailTemplateCode.DOCS_PASS : MailTemplateCode.DOCS_REJECT);
+    }
+
+    // 면접 결과: 서류 합격자에게만 최종 합격/불합격 안내
+    public List<MailCampaignResponse> notifyInterviewResults(AuthInfo authInfo) {
+        if (!hasValidRoles(authInfo, List.of(Role.SUPERUSER, Role.MANAGER))) {
+            throw new UnauthorizedRoleException("접근 권한이 없습니다.");
+        }
+
+        return enqueue(List.of(MailTemplateCode.INTERVIEW_PASS, MailTemplateCode.INTERVIEW_REJECT),
+                afterId -> candidateRepository.findResultMailTargetsByDocs(Docs.PASS, afterId, PageRequest.of(0, pageSize)),
+                target -> target.getInterview() == Interview.PASS ? MailTemplateCode.INTERVIEW_PASS : MailTemplateCode.INTERVIEW_REJECT);
+    }
+
+    /**
+     * 결과별 발송 작업을 '받는 사람 등록 중' 상태로 만들고, 페이지마다 받는 사람 행을 저장한 뒤 발송 대기로 넘긴다.
+     * 등록 도중 실패하면 만든 작업과 받는 사람 행을 지워서 일부만 발송되지 않게 한다.
+     */
+    private List<MailCampaignResponse> enqueue(List<MailTemplateCode> codes,
+                                               Function<Long, List<ResultMailTarget>> pageLoader,
+                                               Function<ResultMailTarget, MailTemplateCode> outcome) {
+        Map<MailTemplateCode, MailCampaign> campaigns = new EnumMap<>(MailTemplateCode.class);
+        Map<MailTemplateCode, Integer> totals = new EnumMap<>(MailTemplateCode.class);
+        for (MailTemplateCode code : codes) {
+            campaigns.put(code, mailCampaignRepository.save(MailCampaign.builder()
+                    .templateCode(code)
+                    .status(MailCampaignStatus.PREPARING)
+                    .total(0)
+                    .build()));
+            totals.put(code, 0);
+        }
+
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<ResultMailTarget> page = pageLoader.apply(afterId);
+                if (page.isEmpty()) break;
+
+                List<MailCampaignRecipient> recipients = new ArrayList<>(page.size());
+                for (ResultMailTarget target : page) {
+                    MailTemplateCode code = outcome.apply(target);
+                    recipients.add(MailCampaignRecipient.builder()
+                            .campaignId(campaigns.get(code).getId())
+                            .recipient(target.getEmail())
+                            .name(target.getName())
+                            .applicationId(target.getJoinerId())
+                            .track(target.getTrack())
+                            .build());
+                    totals.merge(code, 1, Integer::sum);
+                }
+                mailCampaignRecipientRepository.saveAll(recipients);
+
+                afterId = page.get(page.size() - 1).getJoinerId();
+                if (page.size() < pageSize) break;
+            }
+        } catch (RuntimeException e) {
+            log.error("결과 안내 메일 받는 사람 등록 실패, 등록한 작업을 취소합니다 - 원인: {}", e.getMessage());
+            campaigns.values().forEach(campaign -> {
+                mailCampaignRecipientRepository.deleteByCampaignId(campaign.getId());
+                mailCampaignRepository.delete(campaign);
+            });
+            throw e;
+        }
+
+        campaigns.forEach((code, campaign) -> {
+            campaign.ready(totals.get(code));
+            mailCampaignRepository.save(campaign);
+            log.info("결과 안내 메일 작업 등록 - 작업 id: {}, 종류: {}, 받는 사람: {}명", campaign.getId(), code, totals.get(code));
+        });
+
+        return campaigns.values().stream()
+                .map(campaign -> mailService.getCampaign(campaign.getId()))
+                .collect(Collectors.toList());
+    }
+
+    private boolean hasValidRoles(AuthInfo authInfo, List<Role> allowedRoles) {
+        return authInfo.getRoles().stream().anyMatch(allowedRoles::contains);
+    }
+}
@@ -1,7 +1,9 @@
 package com.smlikelion.webfounder.manage.service;
 
 import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerAnswerRepository;
 import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.Recruit.Service.S3CleanupService;
 import com.smlikelion.webfounder.admin.entity.Role;
 import com.smlikelion.webfounder.manage.dto.response.DeleteDocsResponse;
 import com.smlikelion.webfounder.admin.exception.UnauthorizedRoleException;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @AllArgsConstructor
@@ -24,6 +27,9 @@ public class SQLExecutionService {
     private final JdbcTemplate jdbcTemplate;
     private final CandidateRepository candidateRepository;
     private final JoinerRepository joinerRepository;
+    private final JoinerAnswerRepository joinerAnswerRepository;
+    private final S3CleanupService s3CleanupService;
+    private final ApplicantCountCache applicantCountCache;
 
     @Transactional
     public DeleteDocsResponse deleteDocsByJoinerIds(AuthInfo authInfo, List<Long> joinerIds) {
@@ -41,8 +47,8 @@ public class SQLExecutionService {
         List<Long> requested = joinerIds.stream().distinct().collect(Collectors.toList());
 
         // 2) 실제 존재하는 joiner 조회
-        List<Long> existing = joinerRepository.findAllById(requested)
-                .stream().map(Joiner::getId).collect(Collectors.toList());
+        List<Joiner> existingJoiners = joinerRepository.findAllById(requested);
+        List<Long> existing = existingJoiners.stream().map(Joiner::getId).collect(Collectors.toList());
 
         // 3) 존재하지 않는 ID를 실패 목록에 선반영
         List<Long> failed = requested.stream()
@@ -60,7 +66,10 @@ public class SQLExecutionService {
         // 4) 배치 삭제 시도 (Candidate → Joiner)
         try {
             candidateRepository.deleteByJoinerIds(existing);
+            joinerAnswerRepository.deleteByJoinerIds(existing);
             joinerRepository.deleteAllByIdInBatch(existing);
+            s3CleanupService.deleteAfterCommit(programmersFiles(existingJoiners, existing));
+            applicantCountCache.evict();
 
             return DeleteDocsResponse.builder()
                     .requested(requested.size())
@@ -72,6 +81,9 @@ public class SQLExecutionService {
             log.warn("Batch delete failed. Fallback to per-id. cause={}", ex.getMessage());
 
             int success = fallbackDeletePerId(existing, failed);
+            List<Long> deleted = existing.stream().filter(id -> !failed.contains(id)).collect(Collectors.toList());
+            s3CleanupService.deleteAfterCommit(programmersFiles(existingJoiners, deleted));
+            applicantCountCache.evict();
             return DeleteDocsResponse.builder()
                     .requested(requested.size())
                     .deleted(success)
@@ -87,6 +99,7 @@ public class SQLExecutionService {
             try {
                 // Java 8 호환: Collections.singletonList 사용
                 candidateRepository.deleteByJoinerIds(Collections.singletonList(id));
+                joinerAnswerRepository.deleteByJoinerIds(Collections.singletonList(id));
                 joinerRepository.deleteAllByIdInBatch(Collections.singletonList(id));
                 success++;
             } catch (Exception e) {
@@ -103,8 +116,13 @@ public class SQLExecutionService {
         }
 
         try {
+            Map<Long, String> files = joinerRepository.findAllProgrammersImageFiles().stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (String) row[1]));
             candidateRepository.deleteAll();
+            joinerAnswerRepository.deleteAllInBatch();
             joinerRepository.deleteAll();
+            s3CleanupService.deleteAfterCommit(files);
+            applicantCountCache.evict();
             resetAutoIncrement("candidate");
             resetAutoIncrement("joiner");
         } catch (Exception e) {
@@ -114,6 +132,13 @@ public class SQLExecutionService {
         return "서류 합격자 전체 삭제 완료";
     }
 
+    // 삭제된 지원서 중 프로그래머스 인증 파일이 있는 지원서의 joinerId → 파일 이름
+    private Map<Long, String> programmersFiles(List<Joiner> joiners, List<Long> deletedIds) {
+        return joiners.stream()
+                .filter(joiner -> deletedIds.contains(joiner.getId()) && joiner.getProgrammersImageUrl() != null)
+                .collect(Collectors.toMap(Joiner::getId, Joiner::getProgrammersImageUrl));
+    }
+
     @Transactional
     public void executeSql(String sql) {
         jdbcTemplate.execute(sql);
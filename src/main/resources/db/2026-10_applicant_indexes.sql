@@ -0,0 +1,33 @@
+-- 지원서 목록/조회용 인덱스 (Joiner, Candidate 엔티티의 @Table(indexes)와 같은 이름)
+-- ddl-auto=update도 빠진 인덱스를 만들지만, 운영 DB에는 배포 전에 이 스크립트로 한 번 적용한다.
+-- 학번 유니크 인덱스는 중복 학번이 있으면 실패하므로 먼저 1)을 확인하고 중복 지원서를 정리할 것.
+
+-- 1) 중복 학번 확인 (결과가 없어야 함)
+SELECT student_id, COUNT(*) AS cnt
+FROM joiner
+GROUP BY student_id
+HAVING COUNT(*) > 1;
+
+-- 지원자 한 명당 Candidate 하나 (결과가 없어야 함)
+SELECT joiner_id, COUNT(*) AS cnt
+FROM candidate
+GROUP BY joiner_id
+HAVING COUNT(*) > 1;
+
+-- 2) 인덱스 추가 (온라인 DDL, 테이블 잠금 없음)
+ALTER TABLE joiner
+    ADD UNIQUE INDEX uk_joiner_student_id (student_id),
+    ADD INDEX idx_joiner_stashed_track_created_at (stashed, track, created_at),
+    ADD INDEX idx_joiner_stashed_created_at (stashed, created_at),
+    ADD INDEX idx_joiner_name_student_id (name, student_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE candidate
+    ADD UNIQUE INDEX uk_candidate_joiner_id (joiner_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 3) 실행 계획 확인 (key 컬럼에 위 인덱스가 나와야 함)
+EXPLAIN SELECT * FROM joiner WHERE stashed = 0 AND track = 2 ORDER BY created_at LIMIT 10;
+EXPLAIN SELECT * FROM joiner WHERE stashed = 0 ORDER BY created_at LIMIT 10;
+EXPLAIN SELECT 1 FROM joiner WHERE student_id = '2024001' LIMIT 1;
+EXPLAIN SELECT * FROM joiner WHERE name = '홍길동' AND student_id = '2024001';
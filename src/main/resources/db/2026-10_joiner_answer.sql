@@ -0,0 +1,18 @@
+-- 지원서 답변을 joiner.answer_list에서 joiner_answer 테이블로 옮긴다 (JoinerAnswer 엔티티)
+-- 새 버전 배포 직후, 지원 접수를 받기 전에 한 번 실행한다. 여러 번 실행해도 결과는 같다.
+
+-- 1) 답변 복사 (이미 옮긴 행은 건너뜀)
+INSERT INTO joiner_answer (joiners_id, answer_list)
+SELECT j.joiners_id, j.answer_list
+FROM joiner j
+WHERE j.answer_list IS NOT NULL
+ON DUPLICATE KEY UPDATE joiners_id = joiner_answer.joiners_id;
+
+-- 2) 확인 (결과가 없어야 함)
+SELECT j.joiners_id
+FROM joiner j
+LEFT JOIN joiner_answer a ON a.joiners_id = j.joiners_id
+WHERE j.answer_list IS NOT NULL AND a.joiners_id IS NULL;
+
+-- 3) 확인이 끝나면 기존 컬럼 삭제 (되돌릴 수 없으므로 백업 후 실행)
+-- ALTER TABLE joiner DROP COLUMN answer_list;
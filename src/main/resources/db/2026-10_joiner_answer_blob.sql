@@ -0,0 +1,11 @@
+-- joiner_answer.answer_list를 JSON에서 바이너리(MEDIUMBLOB)로 바꾼다 (AnswerListConverter)
+-- 기존 JSON 값은 텍스트 바이트로 남고, 애플리케이션이 JSON으로 알아보고 그대로 읽는다.
+-- 새로 저장되는 답변부터 압축 형식으로 저장된다. 새 버전 배포 전에 실행할 것.
+
+ALTER TABLE joiner_answer MODIFY answer_list MEDIUMBLOB;
+
+-- 저장 크기 확인
+SELECT COUNT(*) AS rows_count,
+       SUM(LENGTH(answer_list)) AS total_bytes,
+       AVG(LENGTH(answer_list)) AS avg_bytes
+FROM joiner_answer;
@@ -0,0 +1,56 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Entity.AnswerListConverter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 답변 압축 저장 검증
+ * - 압축 형식으로 저장한 값을 그대로 되읽음 (빈 답변, null 포함)
+ * - 예전 JSON 텍스트로 저장된 값도 읽음
+ */
+class AnswerListConverterTest {
+
+    private final AnswerListConverter converter = new AnswerListConverter();
+
+    @Test
+    void roundTrip_keepsAnswers() {
+        List<String> answers = new ArrayList<>(Arrays.asList("첫 번째 답변입니다.", "", null, "Spring, \"JPA\" 경험\n줄바꿈"));
+
+        byte[] stored = converter.convertToDatabaseColumn(answers);
+
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(answers);
+    }
+
+    @Test
+    void compressed_isSmallerThanJson() {
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            answers.add("멋쟁이사자처럼에서 팀원들과 함께 서비스를 기획하고 개발하며 성장하고 싶습니다. ".repeat(20));
+        }
+
+        byte[] stored = converter.convertToDatabaseColumn(answers);
+        int jsonBytes = answers.stream().mapToInt(answer -> answer.getBytes(StandardCharsets.UTF_8).length + 3).sum();
+
+        assertThat(stored.length).isLessThan(jsonBytes);
+    }
+
+    @Test
+    void legacyJson_isReadAsIs() {
+        byte[] legacy = "[\"답변1\", \"답변2\"]".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(converter.convertToEntityAttribute(legacy)).containsExactly("답변1", "답변2");
+    }
+
+    @Test
+    void emptyColumn_isEmptyList() {
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+}
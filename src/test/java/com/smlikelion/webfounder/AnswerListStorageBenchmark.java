@@ -0,0 +1,128 @@
+package com.smlikelion.webfounder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smlikelion.webfounder.Recruit.Entity.AnswerListConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 답변 저장 형식 비교: JSON 텍스트(예전 JsonStringType) vs 압축 바이너리(AnswerListConverter)
+ * 지원서 APPLICANTS건(8문항, 문항당 약 1,000자)을 H2 메모리 DB에 배치로 넣고 다시 읽어서
+ * 행 크기, insert 시간, 읽기(역직렬화 포함) 시간을 로그로 남긴다.
+ * 실행: BENCHMARK=true ./gradlew test --tests '*AnswerListStorageBenchmark'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class AnswerListStorageBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerListStorageBenchmark.class);
+
+    private static final int APPLICANTS = 2000;
+    private static final int BATCH_SIZE = 50;
+    private static final String[] WORDS = {
+            "저는", "멋쟁이사자처럼", "활동을", "통해", "서비스를", "기획하고", "개발하며", "팀원들과", "함께", "성장하고",
+            "싶습니다.", "프로젝트에서", "백엔드", "프론트엔드", "디자인을", "맡아", "사용자", "경험을", "개선했습니다.", "특히",
+            "Spring", "React", "API", "데이터베이스", "설계와", "배포", "과정에서", "문제를", "해결한", "경험이", "있습니다."
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AnswerListConverter converter = new AnswerListConverter();
+
+    @Test
+    void compareJsonAndCompressed() throws Exception {
+        List<List<String>> applicants = sampleAnswers();
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:answer_bench;DB_CLOSE_DELAY=-1")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table answer_json (id bigint primary key, answer_list varchar(1048576))");
+                statement.execute("create table answer_blob (id bigint primary key, answer_list varbinary(1048576))");
+            }
+
+            long jsonInsert = insert(connection, "answer_json", applicants, true);
+            long blobInsert = insert(connection, "answer_blob", applicants, false);
+            long jsonRead = read(connection, "answer_json", true);
+            long blobRead = read(connection, "answer_blob", false);
+            long jsonBytes = totalBytes(connection, "answer_json");
+            long blobBytes = totalBytes(connection, "answer_blob");
+
+            log.info("지원서 {}건 (8문항)", APPLICANTS);
+            log.info("JSON   : 평균 {} bytes/건, insert {} ms, 읽기 {} ms",
+                    jsonBytes / APPLICANTS, jsonInsert / 1_000_000, jsonRead / 1_000_000);
+            log.info("압축   : 평균 {} bytes/건, insert {} ms, 읽기 {} ms",
+                    blobBytes / APPLICANTS, blobInsert / 1_000_000, blobRead / 1_000_000);
+            log.info("크기 비율: {}%", String.format("%.1f", blobBytes * 100.0 / jsonBytes));
+
+            assertThat(blobBytes).isLessThan(jsonBytes);
+        }
+    }
+
+    // 걸린 시간(ns)
+    private long insert(Connection connection, String table, List<List<String>> applicants, boolean json) throws Exception {
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into " + table + " (id, answer_list) values (?, ?)")) {
+            for (int i = 0; i < applicants.size(); i++) {
+                statement.setLong(1, i + 1);
+                if (json) {
+                    statement.setString(2, objectMapper.writeValueAsString(applicants.get(i)));
+                } else {
+                    statement.setBytes(2, converter.convertToDatabaseColumn(applicants.get(i)));
+                }
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) statement.executeBatch();
+            }
+            statement.executeBatch();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long read(Connection connection, String table, boolean json) throws Exception {
+        long start = System.nanoTime();
+        int answers = 0;
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("select answer_list from " + table)) {
+            while (rows.next()) {
+                List<String> list = json
+                        ? objectMapper.readValue(rows.getString(1), new TypeReference<List<String>>() {})
+                        : converter.convertToEntityAttribute(rows.getBytes(1));
+                answers += list.size();
+            }
+        }
+        assertThat(answers).isEqualTo(APPLICANTS * 8);
+        return System.nanoTime() - start;
+    }
+
+    private long totalBytes(Connection connection, String table) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("select sum(octet_length(answer_list)) from " + table)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private List<List<String>> sampleAnswers() {
+        Random random = new Random(42);
+        List<List<String>> applicants = new ArrayList<>(APPLICANTS);
+        for (int i = 0; i < APPLICANTS; i++) {
+            List<String> answers = new ArrayList<>(8);
+            for (int q = 0; q < 8; q++) {
+                StringBuilder answer = new StringBuilder();
+                while (answer.length() < 1000) {
+                    answer.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+                }
+                answers.add(answer.toString());
+            }
+            applicants.add(answers);
+        }
+        return applicants;
+    }
+}
@@ -0,0 +1,63 @@
+package com.smlikelion.webfounder;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지원서 목록/조회 쿼리 실행 계획 검증 (H2, 엔티티에 선언한 인덱스로 스키마 생성)
+ * - 목록/학번 조회가 전체 스캔(tableScan) 없이 선언한 인덱스를 타는지 확인
+ * - 인덱스 선언이 빠지거나 컬럼 순서가 바뀌면 실패
+ */
+@DataJpaTest
+class ApplicantIndexPlanTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void listByTrack_usesStashedTrackCreatedAtIndex() {
+        String plan = explain("select * from joiner where stashed = false and track = 2 order by created_at asc");
+
+        assertThat(plan).containsIgnoringCase("idx_joiner_stashed_track_created_at");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void listAll_usesStashedCreatedAtIndex() {
+        String plan = explain("select * from joiner where stashed = false order by created_at");
+
+        assertThat(plan).containsIgnoringCase("idx_joiner_stashed_created_at");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void existsByStudentId_usesUniqueIndex() {
+        String plan = explain("select joiners_id from joiner where student_id = '2024001' limit 1");
+
+        assertThat(plan).containsIgnoringCase("uk_joiner_student_id");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findByNameAndStudentId_doesNotScan() {
+        String plan = explain("select * from joiner where name = '김사자' and student_id = '2024001'");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void candidateByJoiner_doesNotScan() {
+        String plan = explain("select * from candidate where joiner_id = 1");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("explain " + sql).getSingleResult());
+    }
+}
@@ -0,0 +1,116 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.manage.dto.response.ApplicationDocumentPreview;
+import com.smlikelion.webfounder.manage.dto.response.ApplicationStatusResponse;
+import com.smlikelion.webfounder.manage.exception.InvalidCursorException;
+import com.smlikelion.webfounder.manage.service.ManageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.smlikelion.webfounder.ManageFixtures.MANAGER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지원현황 커서 페이지: nextCursor를 따라가면 보관되지 않은 지원서를 제출 순서대로 한 번씩 읽는다.
+ */
+@DataJpaTest
+class ApplicationStatusCursorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JoinerRepository joinerRepository;
+
+    private ManageService manageService;
+    private final List<Long> backendIds = new ArrayList<>();
+    private Long frontendId;
+
+    @BeforeEach
+    void setUp() {
+        manageService = ManageFixtures.manageService(null, joinerRepository);
+
+        for (int i = 1; i <= 5; i++) {
+            backendIds.add(ManageFixtures.joiner(entityManager, "202400" + i, Track.BACKEND, false).getId());
+        }
+        frontendId = ManageFixtures.joiner(entityManager, "2024011", Track.FRONTEND, false).getId();
+        ManageFixtures.joiner(entityManager, "2024021", Track.BACKEND, true);
+        // 커서에 DB에 저장된 제출 시각이 담기도록 다시 읽게 함
+        entityManager.clear();
+    }
+
+    @Test
+    void firstPage_returnsOldestApplications_withNextCursor() {
+        ApplicationStatusResponse page = manageService.getApplicationStatusByCursor(MANAGER, "be", null, 2);
+
+        assertThat(ids(page)).containsExactly(backendIds.get(0), backendIds.get(1));
+        assertThat(page.getNextCursor()).endsWith("_" + backendIds.get(1));
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void followingCursors_readsEveryActiveApplicationOnce() {
+        List<Long> read = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ApplicationStatusResponse page = manageService.getApplicationStatusByCursor(MANAGER, "be", cursor, 2);
+            read.addAll(ids(page));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(read).isEqualTo(backendIds);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void lastPage_hasNoNextCursor() {
+        ApplicationStatusResponse page = manageService.getApplicationStatusByCursor(MANAGER, "fe", "", 1);
+
+        assertThat(ids(page)).containsExactly(frontendId);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void allTracks_excludesStashed() {
+        ApplicationStatusResponse page = manageService.getApplicationStatusByCursor(MANAGER, "all", null, 10);
+
+        assertThat(ids(page)).hasSize(6).containsAll(backendIds).contains(frontendId);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyTrack_returnsEmptyPage() {
+        ApplicationStatusResponse page = manageService.getApplicationStatusByCursor(MANAGER, "pm", null, 2);
+
+        assertThat(page.getApplicationDocumentPreviewList()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalPages()).isZero();
+    }
+
+    @Test
+    void malformedCursor_isRejected() {
+        assertThatThrownBy(() -> manageService.getApplicationStatusByCursor(MANAGER, "be", "not-a-cursor", 2))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> manageService.getApplicationStatusByCursor(MANAGER, "be", "2026-03-01T10:00_abc", 2))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> manageService.getApplicationStatusByCursor(MANAGER, "be", "yesterday_3", 2))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private List<Long> ids(ApplicationStatusResponse page) {
+        return page.getApplicationDocumentPreviewList().stream()
+                .map(ApplicationDocumentPreview::getJoinerId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,124 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.manage.dto.request.DocsInterPassRequestDto;
+import com.smlikelion.webfounder.manage.entity.Candidate;
+import com.smlikelion.webfounder.manage.entity.Docs;
+import com.smlikelion.webfounder.manage.entity.Interview;
+import com.smlikelion.webfounder.manage.exception.InvalidInterviewPassException;
+import com.smlikelion.webfounder.manage.exception.NotFoundCandidateException;
+import com.smlikelion.webfounder.manage.exception.NotFoundJoinerException;
+import com.smlikelion.webfounder.manage.repository.CandidateRepository;
+import com.smlikelion.webfounder.manage.service.ManageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 합격/불합격 일괄 처리: 요청에 잘못된 id가 하나라도 있으면 아무것도 바꾸지 않아야 한다.
+ */
+@DataJpaTest
+class DecideResultTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JoinerRepository joinerRepository;
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    private ManageService manageService;
+
+    @BeforeEach
+    void setUp() {
+        manageService = ManageFixtures.manageService(candidateRepository, joinerRepository);
+    }
+
+    @Test
+    void docsPass_updatesAllRequested_andEchoesRequestedIds() {
+        Long first = candidate("2024001", Docs.REJECT, Interview.INTERVIEW_REJECT);
+        Long second = candidate("2024002", Docs.REJECT, Interview.INTERVIEW_REJECT);
+
+        List<Long> decided = manageService.docsPass(request(first, second, first));
+
+        assertThat(decided).containsExactly(first, second, first);
+        assertThat(find(first).getDocs()).isEqualTo(Docs.PASS);
+        assertThat(find(second).getDocs()).isEqualTo(Docs.PASS);
+    }
+
+    @Test
+    void docsPass_withUnknownJoiner_changesNothing() {
+        Long existing = candidate("2024001", Docs.REJECT, Interview.INTERVIEW_REJECT);
+
+        assertThatThrownBy(() -> manageService.docsPass(request(existing, 999_999L)))
+                .isInstanceOf(NotFoundJoinerException.class)
+                .hasMessageContaining("999999");
+        assertThat(find(existing).getDocs()).isEqualTo(Docs.REJECT);
+    }
+
+    @Test
+    void docsFail_withJoinerWithoutCandidate_changesNothing() {
+        Long existing = candidate("2024001", Docs.PASS, Interview.INTERVIEW_REJECT);
+        Long withoutCandidate = ManageFixtures.joiner(entityManager, "2024002", Track.BACKEND, false).getId();
+
+        assertThatThrownBy(() -> manageService.docsFail(request(existing, withoutCandidate)))
+                .isInstanceOf(NotFoundCandidateException.class)
+                .hasMessageContaining(String.valueOf(withoutCandidate));
+        assertThat(find(existing).getDocs()).isEqualTo(Docs.PASS);
+    }
+
+    @Test
+    void interviewPass_withDocsRejected_changesNothing() {
+        Long docsPassed = candidate("2024001", Docs.PASS, Interview.INTERVIEW_REJECT);
+        Long docsRejected = candidate("2024002", Docs.REJECT, Interview.INTERVIEW_REJECT);
+
+        assertThatThrownBy(() -> manageService.interviewPass(request(docsPassed, docsRejected)))
+                .isInstanceOf(InvalidInterviewPassException.class)
+                .hasMessageContaining(String.valueOf(docsRejected));
+        assertThat(find(docsPassed).getInterview()).isEqualTo(Interview.INTERVIEW_REJECT);
+    }
+
+    @Test
+    void interviewFail_acceptsDocsRejected() {
+        Long docsPassed = candidate("2024001", Docs.PASS, Interview.PASS);
+        Long docsRejected = candidate("2024002", Docs.REJECT, Interview.PASS);
+
+        manageService.interviewFail(request(docsPassed, docsRejected));
+
+        assertThat(find(docsPassed).getInterview()).isEqualTo(Interview.INTERVIEW_REJECT);
+        assertThat(find(docsRejected).getInterview()).isEqualTo(Interview.INTERVIEW_REJECT);
+    }
+
+    @Test
+    void emptyRequest_doesNothing() {
+        assertThat(manageService.docsPass(request())).isEmpty();
+    }
+
+    private Long candidate(String studentId, Docs docs, Interview interview) {
+        return ManageFixtures.candidate(entityManager, studentId, Track.BACKEND, false, docs, interview).getId();
+    }
+
+    private DocsInterPassRequestDto request(Long... joinerIds) {
+        DocsInterPassRequestDto request = mock(DocsInterPassRequestDto.class);
+        when(request.getJoinerIds()).thenReturn(List.of(joinerIds));
+        return request;
+    }
+
+    // 일괄 UPDATE는 영속성 컨텍스트를 거치지 않으므로 비우고 다시 읽음
+    private Candidate find(Long joinerId) {
+        entityManager.clear();
+        return entityManager.createQuery("select c from Candidate c where c.joiner.id = :joinerId", Candidate.class)
+                .setParameter("joinerId", joinerId)
+                .getSingleResult();
+    }
+}
@@ -60,7 +60,7 @@ class DeleteDocsControllerTest {
 
     private ManageController buildController(SQLExecutionService sqlServiceMock) {
         ManageService manageService = Mockito.mock(ManageService.class);
-        return new ManageController(manageService, null, sqlServiceMock);
+        return new ManageController(manageService, null, sqlServiceMock, null, null, null);
     }
 
     @Test
@@ -0,0 +1,91 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsLayout;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsRequests;
+import com.smlikelion.webfounder.Recruit.Service.docs.DocsTableWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DocsLayout 인덱스 계산 검증
+ * - 문서 끝 위치를 한 번만 받아서 연속 삽입 위치를 계산
+ * - UTF-16 코드 유닛 기준 길이 / API가 제거하는 제어 문자 처리
+ * - 새로 삽입한 표의 셀 위치 계산
+ * - 쓰기 후 구조 캐시를 갱신할 때 쓰는 삽입 길이 계산
+ */
+class DocsLayoutTest {
+
+    private final DocsRequests docsRequests = new DocsRequests();
+
+    @Test
+    void insertText_appendsBeforeTrailingNewline_andAdvancesCursor() {
+        DocsLayout layout = new DocsLayout(docsRequests, 100);
+
+        DocsLayout.Span first = layout.insertText("abc\n");
+        DocsLayout.Span second = layout.insertText("de");
+
+        assertThat(first.start).isEqualTo(99);
+        assertThat(first.end).isEqualTo(103);
+        assertThat(second.start).isEqualTo(103);
+        assertThat(layout.getCursor()).isEqualTo(105);
+        assertThat(layout.getRequests()).hasSize(2);
+        assertThat(layout.getRequests().get(1).getInsertText().getLocation().getIndex()).isEqualTo(103);
+    }
+
+    @Test
+    void insertText_countsUtf16CodeUnits_andDropsCharactersStrippedByApi() {
+        DocsLayout layout = new DocsLayout(docsRequests, 1);
+
+        // 😀 는 서로게이트 쌍(2), \r 은 API가 제거
+        DocsLayout.Span span = layout.insertText("가😀\r\n");
+
+        assertThat(span.end - span.start).isEqualTo(4);
+        assertThat(layout.getRequests().get(0).getInsertText().getText()).isEqualTo("가😀\n");
+    }
+
+    @Test
+    void pageBreak_and_reservedTables_areInsertedFromTheBack() {
+        DocsLayout layout = new DocsLayout(docsRequests, 1);
+
+        layout.insertText("a");
+        layout.reserveTable(location -> List.of(docsRequests.insertTableAtIndex(2, 8, location)));
+        layout.insertText("b");
+        layout.insertPageBreak();
+        layout.reserveTable(location -> List.of(docsRequests.insertTableAtIndex(2, 8, location)));
+        layout.insertReservedTables();
+
+        assertThat(layout.getCursor()).isEqualTo(4);
+        int size = layout.getRequests().size();
+        assertThat(layout.getRequests().get(size - 2).getInsertTable().getLocation().getIndex()).isEqualTo(4);
+        assertThat(layout.getRequests().get(size - 1).getInsertTable().getLocation().getIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void tableCellIndexes_areDerivedFromInsertionIndex() {
+        // 1에 3x3 표 삽입 시 셀 내용 위치: 5, 7, 9 / 12, 14, 16 / 19, 21, 23
+        assertThat(DocsTableWriter.cellContentIndex(1, 0, 0, 3)).isEqualTo(5);
+        assertThat(DocsTableWriter.cellContentIndex(1, 0, 2, 3)).isEqualTo(9);
+        assertThat(DocsTableWriter.cellContentIndex(1, 1, 0, 3)).isEqualTo(12);
+        assertThat(DocsTableWriter.cellContentIndex(1, 2, 2, 3)).isEqualTo(23);
+    }
+
+    @Test
+    void insertedLength_sumsTextPageBreaksAndTables() {
+        // 1에 3x3 표 삽입 시 마지막 셀 문단이 24에서 끝나므로 23만큼 늘어남
+        assertThat(DocsTableWriter.tableLength(3, 3)).isEqualTo(23);
+
+        DocsLayout layout = new DocsLayout(docsRequests, 1);
+        DocsLayout.Span span = layout.insertText("abc\n");
+        layout.add(docsRequests.applyParagraphIndent(span.start, span.end, 18.0));
+        layout.reserveTable(location -> List.of(
+                docsRequests.insertTableAtIndex(2, 8, location),
+                docsRequests.insertAtIndex("12", DocsTableWriter.cellContentIndex(location, 0, 0, 8))));
+        layout.insertPageBreak();
+        layout.insertReservedTables();
+
+        assertThat(layout.getInsertedLength()).isEqualTo(4 + 2 + DocsTableWriter.tableLength(2, 8) + 2);
+    }
+}
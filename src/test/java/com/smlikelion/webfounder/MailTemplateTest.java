@@ -0,0 +1,55 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Entity.MailTemplateCode;
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Service.mail.CompiledMailTemplate;
+import com.smlikelion.webfounder.Recruit.Service.mail.MailRecipient;
+import com.smlikelion.webfounder.Recruit.Service.mail.OutgoingMail;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메일 템플릿 컴파일/렌더링 검증
+ * - 받는 사람별 값만 끼워 넣고 나머지 문자열은 그대로 유지
+ * - 지원하지 않는 변수나 닫히지 않은 변수는 컴파일 시점에 거절
+ */
+class MailTemplateTest {
+
+    @Test
+    void render_splicesRecipientValues() {
+        CompiledMailTemplate template = CompiledMailTemplate.compile(MailTemplateCode.APPLY_STATUS,
+                "[{{applicationId}}번] 결과 안내",
+                "{{ name }}님, {{track}} 트랙 지원 결과입니다.");
+
+        OutgoingMail mail = template.render(MailRecipient.of("a@sookmyung.ac.kr", "김사자", 12L, Track.BACKEND));
+
+        assertThat(mail.getRecipient()).isEqualTo("a@sookmyung.ac.kr");
+        assertThat(mail.getSubject()).isEqualTo("[12번] 결과 안내");
+        assertThat(mail.getText()).isEqualTo("김사자님, 백엔드 트랙 지원 결과입니다.");
+    }
+
+    @Test
+    void render_missingValues_areEmpty() {
+        CompiledMailTemplate template = CompiledMailTemplate.compile(MailTemplateCode.ANNOUNCEMENT, "안내", "{{name}}님 안녕하세요");
+
+        assertThat(template.render(MailRecipient.of("a@sookmyung.ac.kr")).getText()).isEqualTo("님 안녕하세요");
+    }
+
+    @Test
+    void defaultTemplates_compile() {
+        for (MailTemplateCode code : MailTemplateCode.values()) {
+            CompiledMailTemplate template = CompiledMailTemplate.compile(code, code.getDefaultSubject(), code.getDefaultBody());
+            assertThat(template.render(MailRecipient.of("a@sookmyung.ac.kr")).getSubject()).isEqualTo(code.getDefaultSubject());
+        }
+    }
+
+    @Test
+    void compile_rejectsUnknownOrUnclosedVariables() {
+        assertThatThrownBy(() -> CompiledMailTemplate.compile(MailTemplateCode.ANNOUNCEMENT, "안내", "{{password}}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompiledMailTemplate.compile(MailTemplateCode.ANNOUNCEMENT, "안내", "{{name"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.admin.entity.Role;
+import com.smlikelion.webfounder.manage.entity.Candidate;
+import com.smlikelion.webfounder.manage.entity.Docs;
+import com.smlikelion.webfounder.manage.entity.Interview;
+import com.smlikelion.webfounder.manage.repository.CandidateRepository;
+import com.smlikelion.webfounder.manage.service.ApplicantCountCache;
+import com.smlikelion.webfounder.manage.service.ManageService;
+import com.smlikelion.webfounder.security.AuthInfo;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * 관리자 기능 테스트에서 쓰는 지원서/후보자 데이터와 ManageService 구성 (@DataJpaTest 안에서 사용)
+ */
+final class ManageFixtures {
+
+    static final AuthInfo MANAGER = new AuthInfo(null, null, List.of(Role.MANAGER));
+    static final String INTERVIEW_TIME = "3월 2일 14:00";
+
+    private ManageFixtures() {
+    }
+
+    // 저장소만 실제로 쓰고, 테스트하지 않는 협력 객체는 비워 둠
+    static ManageService manageService(CandidateRepository candidateRepository, JoinerRepository joinerRepository) {
+        return manageService(candidateRepository, joinerRepository, countCache(joinerRepository));
+    }
+
+    static ManageService manageService(CandidateRepository candidateRepository, JoinerRepository joinerRepository,
+                                       ApplicantCountCache applicantCountCache) {
+        return new ManageService(null, candidateRepository, joinerRepository, null, applicantCountCache, null);
+    }
+
+    // 테스트 트랜잭션은 커밋되지 않아 커밋 후 비우기가 일어나지 않으므로 매번 다시 센다
+    static ApplicantCountCache countCache(JoinerRepository joinerRepository) {
+        return new ApplicantCountCache(joinerRepository, 0);
+    }
+
+    static Joiner joiner(EntityManager entityManager, String studentId, Track track, boolean stashed) {
+        Joiner joiner = newJoiner(studentId, track, stashed);
+        entityManager.persist(joiner);
+        entityManager.flush();
+        return joiner;
+    }
+
+    static Joiner candidate(EntityManager entityManager, String studentId, Track track, boolean stashed,
+                            Docs docs, Interview interview) {
+        Joiner joiner = newJoiner(studentId, track, stashed);
+        Candidate candidate = new Candidate(joiner, docs.name(), interview.name());
+        candidate.setInterviewTime(INTERVIEW_TIME);
+        entityManager.persist(candidate);
+        entityManager.flush();
+        return joiner;
+    }
+
+    // 필수 컬럼만 채움. JSON 컬럼(면접 시간, 답변)은 H2와 MySQL의 JSON 처리 차이를 피하려고 비워 둔다
+    private static Joiner newJoiner(String studentId, Track track, boolean stashed) {
+        Joiner joiner = new Joiner();
+        joiner.setName("김사자");
+        joiner.setPhoneNum("010-0000-0000");
+        joiner.setEmail(studentId + "@sookmyung.ac.kr");
+        joiner.setStudentId(studentId);
+        joiner.setMajor("컴퓨터과학전공");
+        joiner.setCompletedSem(4);
+        joiner.setPassword("1234");
+        joiner.setTrack(track);
+        joiner.setInterviewTime(null);
+        joiner.setAnswerList(null);
+        joiner.setPortfolio("https://github.com");
+        joiner.setGraduatedYear("2026");
+        joiner.setStashed(stashed);
+        return joiner;
+    }
+}
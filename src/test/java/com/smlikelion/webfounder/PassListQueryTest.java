@@ -0,0 +1,89 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.manage.entity.Docs;
+import com.smlikelion.webfounder.manage.entity.Interview;
+import com.smlikelion.webfounder.manage.repository.CandidateRepository;
+import com.smlikelion.webfounder.manage.repository.PassListRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합격자 목록 쿼리: 보관된 지원서는 빼고, track/interview가 null이면 그 조건 없이 조회한다.
+ */
+@DataJpaTest
+class PassListQueryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    private Long backendPassed;
+    private Long frontendPassed;
+    private Long backendInterviewPassed;
+
+    @BeforeEach
+    void setUp() {
+        backendPassed = candidate("2024001", Track.BACKEND, false, Docs.PASS, Interview.INTERVIEW_REJECT);
+        frontendPassed = candidate("2024002", Track.FRONTEND, false, Docs.PASS, Interview.INTERVIEW_REJECT);
+        backendInterviewPassed = candidate("2024003", Track.BACKEND, false, Docs.PASS, Interview.PASS);
+        candidate("2024004", Track.BACKEND, false, Docs.REJECT, Interview.DOCS_REJECT);
+        candidate("2024005", Track.BACKEND, true, Docs.PASS, Interview.PASS);
+        entityManager.clear();
+    }
+
+    @Test
+    void docsPass_allTracks_excludesStashedAndRejected() {
+        List<PassListRow> rows = candidateRepository.findPassList(Docs.PASS, null, null);
+
+        assertThat(joinerIds(rows)).containsExactly(backendPassed, frontendPassed, backendInterviewPassed);
+    }
+
+    @Test
+    void docsPass_byTrack() {
+        List<PassListRow> rows = candidateRepository.findPassList(Docs.PASS, null, Track.BACKEND);
+
+        assertThat(joinerIds(rows)).containsExactly(backendPassed, backendInterviewPassed);
+    }
+
+    @Test
+    void interviewPass_allTracks_excludesStashed() {
+        List<PassListRow> rows = candidateRepository.findPassList(Docs.PASS, Interview.PASS, null);
+
+        assertThat(joinerIds(rows)).containsExactly(backendInterviewPassed);
+    }
+
+    @Test
+    void interviewPass_emptyTrack() {
+        assertThat(candidateRepository.findPassList(Docs.PASS, Interview.PASS, Track.FRONTEND)).isEmpty();
+    }
+
+    @Test
+    void rowHasDisplayColumns() {
+        PassListRow row = candidateRepository.findPassList(Docs.PASS, Interview.PASS, Track.BACKEND).get(0);
+
+        assertThat(row.getName()).isEqualTo("김사자");
+        assertThat(row.getPhoneNum()).isEqualTo("010-0000-0000");
+        assertThat(row.getStudentId()).isEqualTo("2024003");
+        assertThat(row.getTrack()).isEqualTo(Track.BACKEND);
+        assertThat(row.getInterviewTime()).isEqualTo(ManageFixtures.INTERVIEW_TIME);
+        assertThat(row.getCreatedAt()).isNotNull();
+    }
+
+    private Long candidate(String studentId, Track track, boolean stashed, Docs docs, Interview interview) {
+        return ManageFixtures.candidate(entityManager, studentId, track, stashed, docs, interview).getId();
+    }
+
+    private List<Long> joinerIds(List<PassListRow> rows) {
+        return rows.stream().map(PassListRow::getJoinerId).collect(Collectors.toList());
+    }
+}
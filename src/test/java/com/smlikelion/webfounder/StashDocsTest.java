@@ -0,0 +1,100 @@
+package com.smlikelion.webfounder;
+
+import com.smlikelion.webfounder.Recruit.Entity.Joiner;
+import com.smlikelion.webfounder.Recruit.Entity.Track;
+import com.smlikelion.webfounder.Recruit.Repository.JoinerRepository;
+import com.smlikelion.webfounder.manage.dto.response.StashDocsResponse;
+import com.smlikelion.webfounder.manage.service.ApplicantCountCache;
+import com.smlikelion.webfounder.manage.service.ManageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.smlikelion.webfounder.ManageFixtures.MANAGER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관/복원: 있는 지원서만 바꾸고, 없는 id는 요청한 횟수만큼 failed로 돌려준다.
+ * 보관된 지원서는 목록용 지원자 수에서 빠진다.
+ */
+@DataJpaTest
+class StashDocsTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JoinerRepository joinerRepository;
+
+    private ApplicantCountCache applicantCountCache;
+    private ManageService manageService;
+
+    @BeforeEach
+    void setUp() {
+        applicantCountCache = ManageFixtures.countCache(joinerRepository);
+        manageService = ManageFixtures.manageService(null, joinerRepository, applicantCountCache);
+    }
+
+    @Test
+    void stash_marksFoundIds_andReportsMissing() {
+        Long first = joiner("2024001");
+        Long second = joiner("2024002");
+
+        StashDocsResponse response = manageService.stashDocs(MANAGER, Arrays.asList(first, 999_999L, second, 999_999L));
+
+        assertThat(response.getRequested()).isEqualTo(4);
+        assertThat(response.getStashed()).isEqualTo(2);
+        assertThat(response.getFailed()).containsExactly(999_999L, 999_999L);
+        assertThat(stashed(first)).isTrue();
+        assertThat(stashed(second)).isTrue();
+        assertThat(applicantCountCache.countActiveByTrack(Track.BACKEND)).isZero();
+        assertThat(applicantCountCache.countByTrack(Track.BACKEND)).isEqualTo(2);
+    }
+
+    @Test
+    void restore_bringsBackOnlyRequested() {
+        Long first = joiner("2024001");
+        Long second = joiner("2024002");
+        manageService.stashDocs(MANAGER, List.of(first, second));
+
+        StashDocsResponse response = manageService.restoreDocs(MANAGER, List.of(first));
+
+        assertThat(response.getStashed()).isEqualTo(1);
+        assertThat(response.getFailed()).isEmpty();
+        assertThat(stashed(first)).isFalse();
+        assertThat(stashed(second)).isTrue();
+        assertThat(applicantCountCache.countActiveByTrack(Track.BACKEND)).isEqualTo(1);
+    }
+
+    @Test
+    void stash_withOnlyMissingIds_changesNothing() {
+        Long existing = joiner("2024001");
+
+        StashDocsResponse response = manageService.stashDocs(MANAGER, List.of(999_998L, 999_999L));
+
+        assertThat(response.getStashed()).isZero();
+        assertThat(response.getFailed()).containsExactly(999_998L, 999_999L);
+        assertThat(stashed(existing)).isFalse();
+    }
+
+    @Test
+    void stash_withEmptyRequest_returnsEmptyResult() {
+        StashDocsResponse response = manageService.stashDocs(MANAGER, List.of());
+
+        assertThat(response.getRequested()).isZero();
+        assertThat(response.getFailed()).isEmpty();
+    }
+
+    private Long joiner(String studentId) {
+        return ManageFixtures.joiner(entityManager, studentId, Track.BACKEND, false).getId();
+    }
+
+    private boolean stashed(Long joinerId) {
+        entityManager.clear();
+        return entityManager.find(Joiner.class, joinerId).isStashed();
+    }
+}